@@ -13,10 +13,15 @@ import android.widget.DatePicker;
 import java.util.Calendar;
 
 import de.dimensionv.android.androdialogs.common.DialogConstants;
+import de.dimensionv.android.androdialogs.handlers.ActionHandler;
+import de.dimensionv.android.androdialogs.handlers.DateSetActionHandler;
 
 /**
  * <code>DialogFragmet</code>-class for displaying a date picker.
  *
+ * <p>Besides the handlers supported by all calendar dialogs, the <code>Activity</code> may
+ * implement the {@link DateSetActionHandler} to receive the selected date as plain fields.</p>
+ *
  * @author Volkmar Seifert
  * @version 1.0
  * @since API 1.0.0
@@ -43,14 +48,15 @@ public class DatePickerDialogFragment extends CalenderDialogFragment implements
   @Override
   public Dialog onCreateDialog(Bundle savedInstanceState) {
     Activity activity = getActivity();
-    Calendar calendar = Calendar.getInstance();
+    Calendar calendar = getCalendar();
     calendar.setTimeInMillis(getArguments().getLong(DialogConstants.CALENDAR));
     return new DatePickerDialog(activity, this, calendar.get(Calendar.YEAR), calendar.get(Calendar.MONTH), calendar.get(Calendar.DAY_OF_MONTH));
   }
 
   /**
    * <p>Sets the date given by the integers <code>year</code>, <code>monthOfYear</code> and
-   * <code>dayOfMonth</code> using a <code>Calendar</code> object internally.</p>
+   * <code>dayOfMonth</code>. Unless the handler is a {@link DateSetActionHandler}, the date is
+   * converted using the <code>Calendar</code> of this dialog.</p>
    *
    * @param view The <code>DatePicker</code> object used to choose the date.
    * @param year The selected year (e.g. 2014).
@@ -59,7 +65,12 @@ public class DatePickerDialogFragment extends CalenderDialogFragment implements
    */
   @Override
   public void onDateSet(DatePicker view, int year, int monthOfYear, int dayOfMonth) {
-    Calendar calendar = Calendar.getInstance();
+    ActionHandler handler = getHandler();
+    if(handler instanceof DateSetActionHandler) {
+      ((DateSetActionHandler) handler).onDateSet(year, monthOfYear, dayOfMonth);
+      return;
+    }
+    Calendar calendar = getCalendar();
     calendar.clear();
     calendar.set(Calendar.YEAR, year);
     calendar.set(Calendar.MONTH, monthOfYear);
@@ -67,6 +78,11 @@ public class DatePickerDialogFragment extends CalenderDialogFragment implements
     callHandler(calendar);
   }
 
+  @Override
+  protected Class<? extends ActionHandler> getFieldHandlerClass() {
+    return DateSetActionHandler.class;
+  }
+
   /**
    * <p>Static method to conveniently initialize a <code>DatePickerDialogFragment</code>
    * object.</p>
@@ -78,9 +94,23 @@ public class DatePickerDialogFragment extends CalenderDialogFragment implements
    * @return The newly create <code>DatePickerDialogFragment</code>.
    */
   public static DatePickerDialogFragment createDialog(Calendar calendar) {
+    return createDialog(calendar.getTimeInMillis());
+  }
+
+  /**
+   * <p>Static method to conveniently initialize a <code>DatePickerDialogFragment</code>
+   * object.</p>
+   *
+   * <p>The date displayed by this <code>DatePickerDialogFragment</code> is given in milliseconds
+   * since the epoch, so no <code>Calendar</code> is needed to create the dialog.</p>
+   *
+   * @param timeInMillis Date to be displayed by this <code>DatePickerDialogFragment</code>
+   * @return The newly create <code>DatePickerDialogFragment</code>.
+   */
+  public static DatePickerDialogFragment createDialog(long timeInMillis) {
     DatePickerDialogFragment dialogFragment = new DatePickerDialogFragment();
     Bundle arguments = new Bundle();
-    arguments.putLong(DialogConstants.CALENDAR, calendar.getTimeInMillis());
+    arguments.putLong(DialogConstants.CALENDAR, timeInMillis);
     dialogFragment.setArguments(arguments);
     return dialogFragment;
   }
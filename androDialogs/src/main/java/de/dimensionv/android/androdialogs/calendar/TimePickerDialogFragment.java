@@ -14,10 +14,15 @@ import android.widget.TimePicker;
 import java.util.Calendar;
 
 import de.dimensionv.android.androdialogs.common.DialogConstants;
+import de.dimensionv.android.androdialogs.handlers.ActionHandler;
+import de.dimensionv.android.androdialogs.handlers.TimeSetActionHandler;
 
 /**
  * <code>DialogFragmet</code>-class for displaying a date picker.
  *
+ * <p>Besides the handlers supported by all calendar dialogs, the <code>Activity</code> may
+ * implement the {@link TimeSetActionHandler} to receive the selected time as plain fields.</p>
+ *
  * @author Volkmar Seifert
  * @version 1.0
  * @since API 1.0.0
@@ -44,7 +49,7 @@ public class TimePickerDialogFragment extends CalenderDialogFragment implements
   @Override
   public Dialog onCreateDialog(Bundle savedInstanceState) {
     Activity activity = getActivity();
-    Calendar calendar = Calendar.getInstance();
+    Calendar calendar = getCalendar();
     calendar.setTimeInMillis(getArguments().getLong(DialogConstants.CALENDAR));
     return new TimePickerDialog(activity, this, calendar.get(Calendar.HOUR_OF_DAY), calendar.get(Calendar.MINUTE),
         DateFormat.is24HourFormat(activity));
@@ -52,7 +57,8 @@ public class TimePickerDialogFragment extends CalenderDialogFragment implements
 
   /**
    * <p>Sets the time given by the integers <code>hourOfDay</code> and
-   * <code>mintue</code> using a <code>Calendar</code> object internally.</p>
+   * <code>mintue</code>. Unless the handler is a {@link TimeSetActionHandler}, the time is
+   * converted using the <code>Calendar</code> of this dialog.</p>
    *
    * @param view The <code>TimePicker</code> object used to choose the date.
    * @param hourOfDay The selected year (0-23) (independent of whether 24 hour-mode is selected or not).
@@ -60,13 +66,23 @@ public class TimePickerDialogFragment extends CalenderDialogFragment implements
    */
   @Override
   public void onTimeSet(TimePicker view, int hourOfDay, int minute) {
-    Calendar calendar = Calendar.getInstance();
+    ActionHandler handler = getHandler();
+    if(handler instanceof TimeSetActionHandler) {
+      ((TimeSetActionHandler) handler).onTimeSet(hourOfDay, minute);
+      return;
+    }
+    Calendar calendar = getCalendar();
     calendar.clear();
     calendar.set(Calendar.HOUR_OF_DAY, hourOfDay);
     calendar.set(Calendar.MINUTE, minute);
     callHandler(calendar);
   }
 
+  @Override
+  protected Class<? extends ActionHandler> getFieldHandlerClass() {
+    return TimeSetActionHandler.class;
+  }
+
   /**
    * <p>Static method to conveniently initialize a <code>TimePickerDialogFragment</code>
    * object.</p>
@@ -78,9 +94,23 @@ public class TimePickerDialogFragment extends CalenderDialogFragment implements
    * @return The newly create <code>TimePickerDialogFragment</code>.
    */
   public static TimePickerDialogFragment createDialog(Calendar calendar) {
+    return createDialog(calendar.getTimeInMillis());
+  }
+
+  /**
+   * <p>Static method to conveniently initialize a <code>TimePickerDialogFragment</code>
+   * object.</p>
+   *
+   * <p>The time displayed by this <code>TimePickerDialogFragment</code> is given in milliseconds
+   * since the epoch, so no <code>Calendar</code> is needed to create the dialog.</p>
+   *
+   * @param timeInMillis Time to be displayed by this <code>TimePickerDialogFragment</code>
+   * @return The newly create <code>TimePickerDialogFragment</code>.
+   */
+  public static TimePickerDialogFragment createDialog(long timeInMillis) {
     TimePickerDialogFragment dialogFragment = new TimePickerDialogFragment();
     Bundle arguments = new Bundle();
-    arguments.putLong(DialogConstants.CALENDAR, calendar.getTimeInMillis());
+    arguments.putLong(DialogConstants.CALENDAR, timeInMillis);
     dialogFragment.setArguments(arguments);
     return dialogFragment;
   }
@@ -21,4 +21,6 @@ public class DialogConstants {
   public static final String NOTIFICATION_ID = "notificationID";
   public static final String CALENDAR = "CALENDAR";
   public static final String MODE = "MODE";
+  public static final String LONG_MESSAGE = "longMessage";
+  public static final String RAW_RESOURCE_ID = "rawResourceID";
 }
@@ -0,0 +1,147 @@
+package de.dimensionv.android.androdialogs.common;
+
+import android.os.Process;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * <p>Provides the <code>Executor</code> that is used for work the dialogs move off the main thread,
+ * like inflating layouts in the background.</p>
+ *
+ * <p>By default, a single low-priority daemon thread is used. Apps that already maintain their own
+ * background threads may provide their own <code>Executor</code> instead.</p>
+ *
+ * @author Volkmar Seifert
+ * @version 1.0
+ * @since API 2.1.0
+ */
+public class DialogExecutors {
+
+  private static Executor backgroundExecutor = null;
+  private static ScheduledExecutorService scheduledExecutor = null;
+  private static Executor validationExecutor = null;
+  private static Executor closeExecutor = null;
+
+  private DialogExecutors() {
+    // utility class, no instances
+  }
+
+  /**
+   * Returns the <code>Executor</code> for background work of the dialogs.
+   *
+   * @return The background <code>Executor</code>.
+   */
+  public static synchronized Executor getBackgroundExecutor() {
+    if(backgroundExecutor == null) {
+      backgroundExecutor = createDefaultExecutor();
+    }
+    return backgroundExecutor;
+  }
+
+  /**
+   * Sets the <code>Executor</code> for background work of the dialogs. Passing <code>null</code>
+   * restores the default.
+   *
+   * @param executor The <code>Executor</code> to be used for background work.
+   */
+  public static synchronized void setBackgroundExecutor(Executor executor) {
+    backgroundExecutor = executor;
+  }
+
+  /**
+   * <p>Returns the <code>ScheduledExecutorService</code> for periodic background work of the
+   * dialogs, like estimating the remaining time of a progress dialog.</p>
+   *
+   * <p>By default, a single low-priority daemon thread is used, separate from the background
+   * <code>Executor</code>, so periodic work is not delayed by long-running tasks.</p>
+   *
+   * @return The <code>ScheduledExecutorService</code> for periodic background work.
+   */
+  public static synchronized ScheduledExecutorService getScheduledExecutor() {
+    if(scheduledExecutor == null) {
+      scheduledExecutor = Executors.newSingleThreadScheduledExecutor(createThreadFactory("AndroDialogs-Scheduled"));
+    }
+    return scheduledExecutor;
+  }
+
+  /**
+   * Sets the <code>ScheduledExecutorService</code> for periodic background work of the dialogs.
+   * Passing <code>null</code> restores the default.
+   *
+   * @param executor The <code>ScheduledExecutorService</code> to be used for periodic background work.
+   */
+  public static synchronized void setScheduledExecutor(ScheduledExecutorService executor) {
+    scheduledExecutor = executor;
+  }
+
+  /**
+   * <p>Returns the <code>Executor</code> for validating user input, e.g. by the
+   * {@link de.dimensionv.android.androdialogs.validation.AsyncInputValidation} of an input
+   * dialog.</p>
+   *
+   * <p>By default, a single low-priority daemon thread is used, separate from the background
+   * <code>Executor</code>, as validators may block on a database or the network for a long time,
+   * which must not delay the other background work of the dialogs.</p>
+   *
+   * @return The <code>Executor</code> for validating user input.
+   */
+  public static synchronized Executor getValidationExecutor() {
+    if(validationExecutor == null) {
+      validationExecutor = Executors.newSingleThreadExecutor(createThreadFactory("AndroDialogs-Validation"));
+    }
+    return validationExecutor;
+  }
+
+  /**
+   * Sets the <code>Executor</code> for validating user input. Passing <code>null</code> restores
+   * the default.
+   *
+   * @param executor The <code>Executor</code> to be used for validating user input.
+   */
+  public static synchronized void setValidationExecutor(Executor executor) {
+    validationExecutor = executor;
+  }
+
+  /**
+   * <p>Returns the <code>Executor</code> that closes channels and streams on the cancellation of an
+   * operation, see {@link de.dimensionv.android.androdialogs.progress.CancellationToken}.</p>
+   *
+   * <p>It is a pool of daemon threads, which are created on demand and end after a minute without
+   * work, so a close never waits behind other work, nor behind another close that blocks. Unlike
+   * the other executors, it cannot be replaced, as the work to be unblocked might run on any
+   * <code>Executor</code> provided by the app.</p>
+   *
+   * @return The <code>Executor</code> for closing channels and streams on cancellation.
+   */
+  public static synchronized Executor getCloseExecutor() {
+    if(closeExecutor == null) {
+      closeExecutor = Executors.newCachedThreadPool(createThreadFactory("AndroDialogs-Close"));
+    }
+    return closeExecutor;
+  }
+
+  private static ExecutorService createDefaultExecutor() {
+    return Executors.newSingleThreadExecutor(createThreadFactory("AndroDialogs-Background"));
+  }
+
+  private static ThreadFactory createThreadFactory(final String name) {
+    return new ThreadFactory() {
+      @Override
+      public Thread newThread(final Runnable runnable) {
+        Thread thread = new Thread(new Runnable() {
+          @Override
+          public void run() {
+            Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+            runnable.run();
+          }
+        }, name);
+        thread.setDaemon(true);
+        return thread;
+      }
+    };
+  }
+}
@@ -2,6 +2,7 @@ package de.dimensionv.android.androdialogs.common;
 
 import android.app.Activity;
 import android.app.AlertDialog;
+import android.app.Dialog;
 import android.content.DialogInterface;
 import android.os.Bundle;
 
@@ -15,6 +16,11 @@ import android.os.Bundle;
 public interface DialogFragmentInterface extends DialogInterface.OnCancelListener, DialogInterface.OnClickListener {
   Activity getActivity();
   Bundle getArguments();
+  Dialog getDialog();
   void setRetainInstance(boolean retain);
   void populateDialog(AlertDialog.Builder builder, Bundle arguments);
+  void showDialog(Activity activity);
+  void showDialog(Activity activity, String tag);
+  String getDialogTag();
+  void setOnDialogDestroyedListener(OnDialogDestroyedListener listener);
 }
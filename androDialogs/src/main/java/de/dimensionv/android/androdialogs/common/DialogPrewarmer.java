@@ -0,0 +1,96 @@
+package de.dimensionv.android.androdialogs.common;
+
+import android.app.AlertDialog;
+import android.content.Context;
+import android.os.Looper;
+import android.os.MessageQueue;
+import android.util.Log;
+import android.view.LayoutInflater;
+
+import de.dimensionv.android.androdialogs.R;
+
+/**
+ * <p>Warms up the dialog machinery while the main thread is idle, so the first dialog shown by the
+ * app does not have to pay for class loading, theme resolution and cold layout parsing.</p>
+ *
+ * <p>The app should call {@link #prewarm(Context)} once at startup, e.g. in
+ * <code>Application.onCreate()</code>. The work is split into small steps, and only one step is
+ * executed per idle slot of the main thread's <code>MessageQueue</code>, so it never competes with
+ * pending input or drawing.</p>
+ *
+ * @author Volkmar Seifert
+ * @version 1.0
+ * @since API 2.1.0
+ */
+public class DialogPrewarmer implements MessageQueue.IdleHandler {
+
+  private static final String TAG = "DialogPrewarmer";
+
+  private static final int DEFAULT_LAYOUTS[] = new int[] {
+      R.layout.progress_dialog_finite,
+      R.layout.progress_dialog_infinite,
+      R.layout.hint_dialog_fragment
+  };
+
+  private final Context context;
+  private final int layouts[];
+  private int step = 0;
+
+  private DialogPrewarmer(Context context, int layouts[]) {
+    this.context = context.getApplicationContext();
+    this.layouts = layouts;
+  }
+
+  /**
+   * Schedules prewarming of the default dialogs for the next idle slots of the main thread. This
+   * method may be called from any thread.
+   *
+   * @param context Any <code>Context</code> of the app. Only the application context is retained.
+   */
+  public static void prewarm(Context context) {
+    prewarm(context, DEFAULT_LAYOUTS);
+  }
+
+  /**
+   * Schedules prewarming of the dialog machinery and the given layouts for the next idle slots of
+   * the main thread. This method may be called from any thread.
+   *
+   * @param context Any <code>Context</code> of the app. Only the application context is retained.
+   * @param layoutResourceIDs The layouts to be parsed in advance, e.g. custom dialog layouts.
+   */
+  public static void prewarm(Context context, int... layoutResourceIDs) {
+    final DialogPrewarmer prewarmer = new DialogPrewarmer(context, layoutResourceIDs.clone());
+    if(FrameScheduler.isMainThread()) {
+      Looper.myQueue().addIdleHandler(prewarmer);
+    } else {
+      FrameScheduler.getInstance().post(new Runnable() {
+        @Override
+        public void run() {
+          Looper.myQueue().addIdleHandler(prewarmer);
+        }
+      });
+    }
+  }
+
+  /**
+   * Executes the next prewarming step.
+   *
+   * @return <code>true</code> as long as steps are remaining, <code>false</code> to be removed.
+   */
+  @Override
+  public boolean queueIdle() {
+    try {
+      if(step == 0) {
+        // loads the AlertDialog classes and resolves the dialog theme
+        new AlertDialog.Builder(context).create();
+      } else {
+        LayoutInflater.from(context).inflate(layouts[step - 1], null, false);
+      }
+    } catch(RuntimeException ex) {
+      // prewarming is a mere optimization, it must never take the app down
+      Log.w(TAG, "Prewarming step " + step + " failed.", ex);
+    }
+    step++;
+    return step <= layouts.length;
+  }
+}
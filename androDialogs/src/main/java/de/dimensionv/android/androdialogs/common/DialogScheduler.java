@@ -0,0 +1,244 @@
+package de.dimensionv.android.androdialogs.common;
+
+import android.app.Activity;
+import android.util.Log;
+
+import java.lang.ref.WeakReference;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.PriorityQueue;
+
+/**
+ * <p>A central scheduler for showing dialogs, which drops duplicates and orders pending dialogs by
+ * priority.</p>
+ *
+ * <p>Dialogs are identified by their dialog tag combined with an optional key. A dialog that is
+ * scheduled while another one with the same identity is pending or showing is dropped. If the
+ * existing dialog implements {@link MergeableDialog}, it merges the duplicate first. A pending
+ * dialog with a higher priority is shown before those with a lower priority; dialogs of the same
+ * priority are shown in the order they were scheduled.</p>
+ *
+ * <p>At most one dialog is shown per display frame, so a burst of requests does not result in a
+ * burst of <code>FragmentTransaction</code>s.</p>
+ *
+ * <p>{@link #schedule(Activity, DialogFragmentInterface, String, int)} may be called from any
+ * thread. Only a weak reference to the <code>Activity</code> is kept; dialogs whose
+ * <code>Activity</code> is gone or finishing when it's their turn are dropped.</p>
+ *
+ * @author Volkmar Seifert
+ * @version 1.0
+ * @since API 2.1.0
+ */
+public class DialogScheduler implements OnDialogDestroyedListener {
+
+  private static final String TAG = "DialogScheduler";
+
+  /**
+   * The default priority.
+   */
+  public static final int PRIORITY_NORMAL = 0;
+
+  private static DialogScheduler instance = null;
+
+  private final PriorityQueue<Request> queue = new PriorityQueue<Request>(11, new Comparator<Request>() {
+    @Override
+    public int compare(Request lhs, Request rhs) {
+      if(lhs.priority != rhs.priority) {
+        return (lhs.priority > rhs.priority) ? -1 : 1;
+      }
+      return (lhs.sequence < rhs.sequence) ? -1 : ((lhs.sequence == rhs.sequence) ? 0 : 1);
+    }
+  });
+  private final HashMap<String, Request> pending = new HashMap<String, Request>();
+  private final HashMap<String, DialogFragmentInterface> active = new HashMap<String, DialogFragmentInterface>();
+
+  private long sequence = 0L;
+  private boolean flushScheduled = false;
+
+  private final Runnable flushTask = new Runnable() {
+    @Override
+    public void run() {
+      showNext();
+    }
+  };
+
+  private DialogScheduler() {
+  }
+
+  /**
+   * Returns the shared <code>DialogScheduler</code>.
+   *
+   * @return The shared <code>DialogScheduler</code>.
+   */
+  public static synchronized DialogScheduler getInstance() {
+    if(instance == null) {
+      instance = new DialogScheduler();
+    }
+    return instance;
+  }
+
+  /**
+   * Schedules the dialog with the default priority and without a key, i.e. only one dialog of its
+   * class can be pending or showing at a time.
+   *
+   * @param activity The <code>Activity</code> to show the dialog in.
+   * @param dialog The dialog to be shown.
+   * @return <code>true</code> if the dialog was scheduled, <code>false</code> if it was a duplicate.
+   */
+  public boolean schedule(Activity activity, DialogFragmentInterface dialog) {
+    return schedule(activity, dialog, null, PRIORITY_NORMAL);
+  }
+
+  /**
+   * Schedules the dialog to be shown.
+   *
+   * @param activity The <code>Activity</code> to show the dialog in.
+   * @param dialog The dialog to be shown.
+   * @param key The key distinguishing dialogs with the same tag, may be null.
+   * @param priority The priority of the dialog, higher values are shown first.
+   * @return <code>true</code> if the dialog was scheduled, <code>false</code> if it was a duplicate.
+   */
+  public boolean schedule(Activity activity, DialogFragmentInterface dialog, String key, int priority) {
+    String identity = (key == null) ? dialog.getDialogTag() : dialog.getDialogTag() + "#" + key;
+    DialogFragmentInterface existing;
+
+    synchronized(this) {
+      Request request = pending.get(identity);
+      existing = (request != null) ? request.dialog : active.get(identity);
+      if(existing == null) {
+        request = new Request(identity, activity, dialog, priority, sequence++);
+        pending.put(identity, request);
+        queue.add(request);
+        scheduleFlush();
+        return true;
+      }
+      if((request != null) && (priority > request.priority)) {
+        // re-queue the pending request with the higher priority of its duplicate
+        queue.remove(request);
+        request.priority = priority;
+        queue.add(request);
+      }
+    }
+
+    if(existing instanceof MergeableDialog) {
+      ((MergeableDialog) existing).mergeDuplicate(dialog);
+    }
+    return false;
+  }
+
+  /**
+   * Returns whether a dialog with the given tag and key is currently pending or showing.
+   *
+   * @param dialogTag The tag of the dialog.
+   * @param key The key of the dialog, may be null.
+   * @return <code>true</code> if such a dialog is pending or showing, <code>false</code> otherwise.
+   */
+  public synchronized boolean isScheduled(String dialogTag, String key) {
+    String identity = (key == null) ? dialogTag : dialogTag + "#" + key;
+    return pending.containsKey(identity) || active.containsKey(identity);
+  }
+
+  /**
+   * Returns the dialog with the given tag and key that is currently pending or showing.
+   *
+   * @param dialogTag The tag of the dialog.
+   * @param key The key of the dialog, may be null.
+   * @return The pending or showing dialog, or null if there is none.
+   */
+  public synchronized DialogFragmentInterface find(String dialogTag, String key) {
+    String identity = (key == null) ? dialogTag : dialogTag + "#" + key;
+    Request request = pending.get(identity);
+    return (request != null) ? request.dialog : active.get(identity);
+  }
+
+  /**
+   * Drops all pending dialogs. Dialogs that are already showing are not affected.
+   */
+  public synchronized void clearPending() {
+    queue.clear();
+    pending.clear();
+  }
+
+  /**
+   * Forgets the identity of a destroyed dialog, so it can be scheduled again.
+   *
+   * @param dialog The dialog fragment that was destroyed.
+   */
+  @Override
+  public synchronized void onDialogDestroyed(DialogFragmentInterface dialog) {
+    for(Iterator<DialogFragmentInterface> it = active.values().iterator(); it.hasNext(); ) {
+      if(it.next() == dialog) {
+        it.remove();
+      }
+    }
+    dialog.setOnDialogDestroyedListener(null);
+  }
+
+  private void scheduleFlush() {
+    if(!flushScheduled) {
+      flushScheduled = true;
+      FrameScheduler.getInstance().postOnNextFrame(flushTask);
+    }
+  }
+
+  /**
+   * Shows the pending dialog with the highest priority. Called on the main thread, once per frame
+   * as long as dialogs are pending.
+   */
+  private void showNext() {
+    Request request;
+    Activity activity;
+    synchronized(this) {
+      flushScheduled = false;
+      request = queue.poll();
+      if(request == null) {
+        return;
+      }
+      pending.remove(request.identity);
+      activity = request.activity.get();
+      if((activity == null) || activity.isFinishing()) {
+        // the Activity is gone: drop the dialog, but continue with the next one
+        if(!queue.isEmpty()) {
+          scheduleFlush();
+        }
+        return;
+      }
+      active.put(request.identity, request.dialog);
+      if(!queue.isEmpty()) {
+        scheduleFlush();
+      }
+    }
+
+    request.dialog.setOnDialogDestroyedListener(this);
+    try {
+      request.dialog.showDialog(activity, request.identity);
+    } catch(IllegalStateException ex) {
+      // the Activity has already saved its state, the dialog cannot be shown anymore
+      Log.w(TAG, "Dropped dialog " + request.identity + ".", ex);
+      request.dialog.setOnDialogDestroyedListener(null);
+      synchronized(this) {
+        active.remove(request.identity);
+      }
+    }
+  }
+
+  /**
+   * A pending show-request.
+   */
+  private static class Request {
+    final String identity;
+    final WeakReference<Activity> activity;
+    final DialogFragmentInterface dialog;
+    final long sequence;
+    int priority;
+
+    Request(String identity, Activity activity, DialogFragmentInterface dialog, int priority, long sequence) {
+      this.identity = identity;
+      this.activity = new WeakReference<Activity>(activity);
+      this.dialog = dialog;
+      this.priority = priority;
+      this.sequence = sequence;
+    }
+  }
+}
@@ -51,11 +51,19 @@ package de.dimensionv.android.androdialogs.common;
 import android.app.Activity;
 import android.app.AlertDialog.Builder;
 import android.app.Dialog;
+import android.os.Build;
 import android.os.Bundle;
+import android.view.LayoutInflater;
 import android.view.View;
+import android.view.ViewTreeObserver;
+import android.view.Window;
+import android.widget.FrameLayout;
+import android.widget.ProgressBar;
 
 import de.dimensionv.android.androdialogs.handlers.ActionHandler;
 import de.dimensionv.android.androdialogs.interceptors.ViewInterceptor;
+import de.dimensionv.android.androdialogs.metrics.DialogMetrics;
+import de.dimensionv.android.androdialogs.metrics.DialogTrace;
 
 /**
  * <p>
@@ -79,8 +87,22 @@ public class FragmentDialogController<T extends ActionHandler> {
   private DialogFragmentInterface parent = null;
 
   private Class<T> actionHandlerType = null;
+  // an explicitly set handler, which is not an Activity
   private T actionHandler = null;
+  // the attached Activity acting as handler; released on detach, re-resolved on attach
+  private T activityHandler = null;
+  private boolean activityHandlerSet = false;
   private boolean registerHandler = true;
+  private boolean asyncInflation = false;
+  private boolean viewPooling = false;
+
+  private OnDialogDestroyedListener onDialogDestroyedListener = null;
+
+  private View contentView = null;
+  private int contentLayoutID = 0;
+
+  // only set while DialogMetrics are enabled
+  private DialogTrace trace = null;
 
   /**
    * <p>This constructor initializes the <code>BaseDialogFragment</code>. All descendents must call
@@ -100,6 +122,7 @@ public class FragmentDialogController<T extends ActionHandler> {
     this.parent = parent;
     this.parent.setRetainInstance(true);
     dialogTag = parent.getClass().getName() + ".TAG";
+    trace = DialogMetrics.startTrace(parent.getClass());
   }
 
 
@@ -113,6 +136,9 @@ public class FragmentDialogController<T extends ActionHandler> {
    * @return Return a new Dialog instance to be displayed by the Fragment.
    */
   public Dialog onCreateDialog(Bundle savedInstanceState) {
+    if(trace != null) {
+      return onCreateTracedDialog();
+    }
     // Use the Builder class for convenient dialog construction
     Builder builder = new Builder(parent.getActivity());
     parent.populateDialog(builder, parent.getArguments());
@@ -121,17 +147,38 @@ public class FragmentDialogController<T extends ActionHandler> {
   }
 
   /**
-   * Called when a fragment is first attached to its activity. onCreate(Bundle)
-   * will be called after this.
+   * Same as {@link #onCreateDialog(Bundle)}, but measuring the time it takes.
+   */
+  private Dialog onCreateTracedDialog() {
+    long startTime = DialogTrace.now();
+    Builder builder = new Builder(parent.getActivity());
+    long populateStartTime = DialogTrace.now();
+    parent.populateDialog(builder, parent.getArguments());
+    trace.onPopulated(populateStartTime);
+    Dialog dialog = builder.create();
+    trace.onDialogCreated(startTime);
+    return dialog;
+  }
+
+  /**
+   * <p>Called when a fragment is first attached to its activity. onCreate(Bundle)
+   * will be called after this.</p>
+   *
+   * <p>As the parent dialog fragment is retained across configuration changes, this is also
+   * called with the re-created <code>Activity</code>. If the <code>Activity</code> acts as the
+   * <code>ActionHandler</code>, it is resolved anew here.</p>
    * 
    * @param activity
    *          the Activity this dialog is attached to.
    */
   @SuppressWarnings("unchecked")
   public void onAttach(Activity activity) {
-    if((actionHandler == null) && registerHandler) {
+    if(trace != null) {
+      trace.onAttach();
+    }
+    if(registerHandler || activityHandlerSet) {
       try {
-        actionHandler = (T) activity;
+        activityHandler = (T) activity;
       } catch(ClassCastException ex) {
         throw new ClassCastException(String.format("%s does not implement a %s interface.", activity.getClass().getName(), actionHandlerType.getSimpleName()));
       }
@@ -139,12 +186,37 @@ public class FragmentDialogController<T extends ActionHandler> {
   }
 
   /**
-   * Sets the <code>ActionHandler</code> explicitly.
+   * <p>Called when the parent dialog fragment is detached from its <code>Activity</code>, e.g.
+   * because the <code>Activity</code> is destroyed for a configuration change. Releases the
+   * <code>Activity</code>, so the retained dialog fragment does not keep it alive.</p>
+   */
+  public void onDetach() {
+    activityHandler = null;
+  }
+
+  /**
+   * <p>Sets the <code>ActionHandler</code> explicitly.</p>
+   *
+   * <p>If the handler is an <code>Activity</code>, it is only referenced while the parent dialog
+   * fragment is attached to it, and replaced by the re-created <code>Activity</code> after a
+   * configuration change. Any other handler is kept until it is replaced. Setting
+   * <code>null</code> reverts to the implicitly registered <code>Activity</code>, if
+   * registering is allowed.</p>
    *
    * @param handler the <code>ActionHandler</code> to set
    */
   public void setActionHandler(T handler) {
-    this.actionHandler = handler;
+    if(handler instanceof Activity) {
+      actionHandler = null;
+      activityHandler = handler;
+      activityHandlerSet = true;
+    } else {
+      actionHandler = handler;
+      activityHandlerSet = false;
+      if(!registerHandler) {
+        activityHandler = null;
+      }
+    }
   }
 
   /**
@@ -166,6 +238,9 @@ public class FragmentDialogController<T extends ActionHandler> {
    */
   public void setRegisterHandler(boolean registerHandler) {
     this.registerHandler = registerHandler;
+    if(!registerHandler && !activityHandlerSet) {
+      activityHandler = null;
+    }
   }
 
   /**
@@ -196,11 +271,225 @@ public class FragmentDialogController<T extends ActionHandler> {
    */
   public View callInterceptor(View view) {
     if(viewInterceptor != null) {
-      viewInterceptor.intercept(view);
+      if(trace != null) {
+        long startTime = DialogTrace.now();
+        viewInterceptor.intercept(view);
+        trace.onIntercepted(startTime);
+      } else {
+        viewInterceptor.intercept(view);
+      }
     }
     return view;
   }
 
+  /**
+   * <p>Inflates the given layout as the content view of the parent dialog and calls the
+   * <code>ViewInterceptor</code> for it.</p>
+   *
+   * <p>If asynchronous inflation is enabled, a lightweight placeholder is returned instead. The
+   * layout is then inflated on the background executor, by a <code>LayoutInflater</code> of its
+   * own, and swapped into the placeholder on the main thread, where the
+   * <code>ViewInterceptor</code> is called afterwards.</p>
+   *
+   * @param layoutResourceID The resource ID of the layout to inflate.
+   * @return The view to be set as the dialog's content.
+   *
+   * @see #setAsyncInflation(boolean)
+   */
+  public View inflateView(final int layoutResourceID) {
+    Activity activity = parent.getActivity();
+    contentLayoutID = layoutResourceID;
+    if(viewPooling) {
+      contentView = ViewPool.acquire(activity, layoutResourceID);
+      if(contentView != null) {
+        return callInterceptor(contentView);
+      }
+    }
+
+    LayoutInflater activityInflater = activity.getLayoutInflater();
+    if(!asyncInflation) {
+      contentView = activityInflater.inflate(layoutResourceID, null, false);
+      if(viewPooling) {
+        ViewPool.saveInitialState(contentView);
+      }
+      return callInterceptor(contentView);
+    }
+
+    // the Activity's inflater keeps per-inflation state and is used by the main thread at the same
+    // time, so the background inflation gets a clone of its own, with the same factories
+    final LayoutInflater inflater = activityInflater.cloneInContext(activity);
+    final FrameLayout placeholder = new FrameLayout(activity);
+    placeholder.addView(new ProgressBar(activity));
+    DialogExecutors.getBackgroundExecutor().execute(new Runnable() {
+      @Override
+      public void run() {
+        View view;
+        try {
+          view = inflater.inflate(layoutResourceID, null, false);
+        } catch(RuntimeException ex) {
+          // some views can only be created on the main thread, retry there
+          view = null;
+        }
+        final View inflatedView = view;
+        FrameScheduler.getInstance().post(new Runnable() {
+          @Override
+          public void run() {
+            swapContent(placeholder, inflatedView, layoutResourceID);
+          }
+        });
+      }
+    });
+    return placeholder;
+  }
+
+  /**
+   * Replaces the placeholder's content with the inflated view. Called on the main thread.
+   */
+  private void swapContent(FrameLayout placeholder, View view, int layoutResourceID) {
+    Activity activity = parent.getActivity();
+    if((activity == null) || (placeholder.getContext() != activity)) {
+      // the dialog is gone in the meantime, or was re-created for a new Activity
+      return;
+    }
+    if(view == null) {
+      view = activity.getLayoutInflater().inflate(layoutResourceID, placeholder, false);
+    }
+    if(viewPooling) {
+      ViewPool.saveInitialState(view);
+    }
+    placeholder.removeAllViews();
+    placeholder.addView(view);
+    contentView = view;
+    callInterceptor(view);
+  }
+
+  /**
+   * <p>Called when the parent dialog is dismissed. Returns the content view to the
+   * <code>ViewPool</code>, if view pooling is enabled.</p>
+   */
+  public void onDismiss() {
+    if((trace != null) && !isChangingConfigurations()) {
+      trace.onDismiss();
+    }
+    if(viewPooling && (contentView != null)) {
+      ViewPool.release(contentLayoutID, contentView);
+    }
+    contentView = null;
+  }
+
+  /**
+   * <p>Called when the parent dialog fragment is started, i.e. its dialog has just been shown.
+   * Watches for the dialog's first draw, if its <code>DialogTrace</code> is still waiting for
+   * it.</p>
+   */
+  public void onStart() {
+    if((trace == null) || trace.hasDrawn()) {
+      return;
+    }
+    Dialog dialog = parent.getDialog();
+    Window window = (dialog != null) ? dialog.getWindow() : null;
+    if(window == null) {
+      return;
+    }
+    final View decorView = window.getDecorView();
+    decorView.getViewTreeObserver().addOnPreDrawListener(new ViewTreeObserver.OnPreDrawListener() {
+      @Override
+      public boolean onPreDraw() {
+        trace.onDraw();
+        ViewTreeObserver observer = decorView.getViewTreeObserver();
+        if(observer.isAlive()) {
+          observer.removeOnPreDrawListener(this);
+        }
+        return true;
+      }
+    });
+  }
+
+  /**
+   * <p>Called when the user clicked a button of the parent dialog or cancelled it. Only used for
+   * collecting {@link DialogMetrics}.</p>
+   */
+  public void onUserAction() {
+    if(trace != null) {
+      trace.onUserAction();
+    }
+  }
+
+  /**
+   * Returns whether the parent dialog is only dismissed because its <code>Activity</code> is
+   * re-created for a configuration change.
+   */
+  private boolean isChangingConfigurations() {
+    Activity activity = parent.getActivity();
+    return (activity != null) && (Build.VERSION.SDK_INT >= Build.VERSION_CODES.HONEYCOMB)
+           && activity.isChangingConfigurations();
+  }
+
+  /**
+   * <p>Called when the parent dialog fragment is destroyed. Notifies the
+   * <code>OnDialogDestroyedListener</code>, if one is set.</p>
+   */
+  public void onDestroy() {
+    if(onDialogDestroyedListener != null) {
+      onDialogDestroyedListener.onDialogDestroyed(parent);
+    }
+  }
+
+  /**
+   * Sets the listener to be notified when the parent dialog fragment is destroyed.
+   *
+   * @param listener The listener, or null to remove it.
+   */
+  public void setOnDialogDestroyedListener(OnDialogDestroyedListener listener) {
+    onDialogDestroyedListener = listener;
+  }
+
+  /**
+   * <p>Sets whether the content view of the parent dialog is taken from and returned to the
+   * {@link ViewPool}.</p>
+   *
+   * <p>Pooled views are reset to the state they had right after inflation when the dialog is
+   * dismissed, so the input of one show does not reappear in the next. State that is not saved
+   * by the views, e.g. of views without an ID, has to be (re-)initialized by the
+   * <code>ViewInterceptor</code>.</p>
+   *
+   * @param viewPooling Flag whether to pool the content view.
+   */
+  public void setViewPooling(boolean viewPooling) {
+    this.viewPooling = viewPooling;
+  }
+
+  /**
+   * Returns whether the content view of the parent dialog is pooled.
+   *
+   * @return <code>true</code> if view pooling is enabled, <code>false</code> otherwise.
+   */
+  public boolean isViewPooling() {
+    return viewPooling;
+  }
+
+  /**
+   * <p>Sets whether the content view of the parent dialog is inflated on a background thread.</p>
+   *
+   * <p>This is meant for heavy layouts, which would otherwise delay showing the dialog. Views that
+   * must be created on the main thread are inflated there as a fall-back. Please note that the
+   * <code>ViewInterceptor</code> is called only after the dialog is shown in that case.</p>
+   *
+   * @param asyncInflation Flag whether to inflate the content view asynchronously.
+   */
+  public void setAsyncInflation(boolean asyncInflation) {
+    this.asyncInflation = asyncInflation;
+  }
+
+  /**
+   * Returns whether the content view of the parent dialog is inflated on a background thread.
+   *
+   * @return <code>true</code> if asynchronous inflation is enabled, <code>false</code> otherwise.
+   */
+  public boolean isAsyncInflation() {
+    return asyncInflation;
+  }
+
   /**
    * Returns the tag under which the parent dialog can be registered with the fragment manager.
    *
@@ -216,6 +505,6 @@ public class FragmentDialogController<T extends ActionHandler> {
    * @return The <code>ActionHandler</code> of the parent dialog, or null if none was set.
    */
   public T getActionHandler() {
-    return actionHandler;
+    return (actionHandler != null) ? actionHandler : activityHandler;
   }
 }
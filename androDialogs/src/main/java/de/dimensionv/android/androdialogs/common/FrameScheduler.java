@@ -0,0 +1,116 @@
+package de.dimensionv.android.androdialogs.common;
+
+import android.annotation.TargetApi;
+import android.os.Build;
+import android.os.Handler;
+import android.os.Looper;
+import android.view.Choreographer;
+
+/**
+ * <p>Schedules <code>Runnable</code>s to be executed on the main thread in sync with the next
+ * display frame.</p>
+ *
+ * <p>On API level 16 and above, the <code>Choreographer</code> is used. On older devices, the
+ * <code>Runnable</code> is posted to the main looper with a delay of one frame interval
+ * instead.</p>
+ *
+ * <p>The method {@link #postOnNextFrame(Runnable)} may be called from any thread.</p>
+ *
+ * @author Volkmar Seifert
+ * @version 1.0
+ * @since API 2.1.0
+ */
+public class FrameScheduler {
+
+  /**
+   * The assumed duration of one display frame in milliseconds, used on devices without a
+   * <code>Choreographer</code>.
+   */
+  public static final long FRAME_INTERVAL = 16L;
+
+  private static FrameScheduler instance = null;
+
+  private final Handler handler;
+
+  private FrameScheduler() {
+    handler = new Handler(Looper.getMainLooper());
+  }
+
+  /**
+   * Returns the shared <code>FrameScheduler</code> of the main thread.
+   *
+   * @return The shared <code>FrameScheduler</code>.
+   */
+  public static synchronized FrameScheduler getInstance() {
+    if(instance == null) {
+      instance = new FrameScheduler();
+    }
+    return instance;
+  }
+
+  /**
+   * <p>Schedules the given <code>Runnable</code> to be run on the main thread when the next frame
+   * is rendered.</p>
+   *
+   * @param runnable The <code>Runnable</code> to be executed.
+   */
+  public void postOnNextFrame(final Runnable runnable) {
+    if(Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN) {
+      // the Choreographer is bound to the thread it was retrieved on, so hop to the main thread first
+      handler.post(new Runnable() {
+        @Override
+        public void run() {
+          FrameCallbackPoster.post(runnable);
+        }
+      });
+    } else {
+      handler.postDelayed(runnable, FRAME_INTERVAL);
+    }
+  }
+
+  /**
+   * <p>Schedules the given <code>Runnable</code> to be run on the main thread as soon as
+   * possible, independent of the frame timing.</p>
+   *
+   * @param runnable The <code>Runnable</code> to be executed.
+   */
+  public void post(Runnable runnable) {
+    handler.post(runnable);
+  }
+
+  /**
+   * <p>Schedules the given <code>Runnable</code> to be run on the main thread after the given
+   * delay.</p>
+   *
+   * @param runnable The <code>Runnable</code> to be executed.
+   * @param delayMillis The delay in milliseconds.
+   */
+  public void postDelayed(Runnable runnable, long delayMillis) {
+    handler.postDelayed(runnable, delayMillis);
+  }
+
+  /**
+   * Returns whether the calling thread is the main thread.
+   *
+   * @return <code>true</code> if called on the main thread, <code>false</code> otherwise.
+   */
+  public static boolean isMainThread() {
+    return Looper.myLooper() == Looper.getMainLooper();
+  }
+
+  /**
+   * Keeps the references to the <code>Choreographer</code> out of the outer class, so it can still
+   * be loaded on devices below API level 16.
+   */
+  @TargetApi(Build.VERSION_CODES.JELLY_BEAN)
+  private static class FrameCallbackPoster {
+    static void post(final Runnable runnable) {
+      Choreographer.getInstance().postFrameCallback(new Choreographer.FrameCallback() {
+        @Override
+        public void doFrame(long frameTimeNanos) {
+          runnable.run();
+        }
+      });
+    }
+  }
+}
@@ -0,0 +1,262 @@
+package de.dimensionv.android.androdialogs.common;
+
+import android.app.Activity;
+import android.content.Context;
+import android.content.SharedPreferences;
+
+import java.lang.ref.WeakReference;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import de.dimensionv.android.androdialogs.dialogs.HintArguments;
+import de.dimensionv.android.androdialogs.dialogs.HintDialogFragment;
+import de.dimensionv.android.androdialogs.handlers.HintActionHandler;
+
+/**
+ * <p>Keeps track of the hints the user does not want to see again.</p>
+ *
+ * <p>The suppression state of all hints is loaded once on the background executor and kept in
+ * memory, so looking it up is a simple bit-test. Changes are written back on the background
+ * executor, and changes that happen in quick succession are written in one go.</p>
+ *
+ * <p>Hints shown through {@link #showIfNotSuppressed(Activity, int, int, int)} record the user's
+ * "show again" choice in the registry by themselves. For hints that are suppressed, no dialog
+ * fragment is created at all.</p>
+ *
+ * <p>Hint-IDs below {@link #MAX_BITSET_ID} are kept in a bitset. Other IDs, like resource IDs, are
+ * supported as well, but are kept in a less compact set.</p>
+ *
+ * @author Volkmar Seifert
+ * @version 1.0
+ * @since API 2.1.0
+ */
+public class HintRegistry {
+
+  /**
+   * Hint-IDs from 0 up to (excluding) this value are stored in the bitset.
+   */
+  public static final int MAX_BITSET_ID = 65536;
+
+  private static final String PREFERENCES_NAME = "de.dimensionv.android.androdialogs.hints";
+  private static final String KEY_SUPPRESSED = "suppressed";
+
+  private static HintRegistry instance = null;
+
+  private final SharedPreferences preferences;
+  private final Executor executor;
+  private final CountDownLatch loadedLatch = new CountDownLatch(1);
+  private final AtomicBoolean writeScheduled = new AtomicBoolean(false);
+
+  private final BitSet suppressed = new BitSet();
+  private final HashSet<Integer> suppressedOther = new HashSet<Integer>();
+
+  private final Runnable writeTask = new Runnable() {
+    @Override
+    public void run() {
+      // clear the flag first, so changes from now on will schedule another write
+      writeScheduled.set(false);
+      preferences.edit().putString(KEY_SUPPRESSED, serialize()).commit();
+    }
+  };
+
+  private HintRegistry(Context context) {
+    preferences = context.getApplicationContext().getSharedPreferences(PREFERENCES_NAME, Context.MODE_PRIVATE);
+    executor = DialogExecutors.getBackgroundExecutor();
+    executor.execute(new Runnable() {
+      @Override
+      public void run() {
+        deserialize(preferences.getString(KEY_SUPPRESSED, null));
+        loadedLatch.countDown();
+      }
+    });
+  }
+
+  /**
+   * Returns the shared <code>HintRegistry</code>, starting to load it in the background when
+   * called for the first time.
+   *
+   * @param context Any <code>Context</code> of the app. Only the application context is used.
+   * @return The shared <code>HintRegistry</code>.
+   */
+  public static synchronized HintRegistry getInstance(Context context) {
+    if(instance == null) {
+      instance = new HintRegistry(context);
+    }
+    return instance;
+  }
+
+  /**
+   * Returns whether the registry has finished loading.
+   *
+   * @return <code>true</code> if the registry is loaded, <code>false</code> otherwise.
+   */
+  public boolean isLoaded() {
+    return loadedLatch.getCount() == 0;
+  }
+
+  /**
+   * <p>Returns whether the hint with the given ID is suppressed.</p>
+   *
+   * <p>If the registry is still loading, this method blocks until loading has finished. Use
+   * {@link #showIfNotSuppressed(Activity, int, int, int)} to avoid that on the main thread.</p>
+   *
+   * @param hintID The ID of the hint.
+   * @return <code>true</code> if the hint should not be shown, <code>false</code> otherwise.
+   */
+  public boolean isSuppressed(int hintID) {
+    awaitLoaded();
+    synchronized(this) {
+      if((hintID >= 0) && (hintID < MAX_BITSET_ID)) {
+        return suppressed.get(hintID);
+      }
+      return suppressedOther.contains(hintID);
+    }
+  }
+
+  /**
+   * Sets whether the hint with the given ID is suppressed. The change is persisted asynchronously.
+   *
+   * @param hintID The ID of the hint.
+   * @param suppress <code>true</code> if the hint should not be shown again, <code>false</code> otherwise.
+   */
+  public void setSuppressed(final int hintID, final boolean suppress) {
+    if(!isLoaded()) {
+      // apply the change on top of the loaded state, instead of having it overwritten by it
+      executor.execute(new Runnable() {
+        @Override
+        public void run() {
+          awaitLoaded();
+          setSuppressed(hintID, suppress);
+        }
+      });
+      return;
+    }
+    boolean changed;
+    synchronized(this) {
+      if((hintID >= 0) && (hintID < MAX_BITSET_ID)) {
+        changed = suppressed.get(hintID) != suppress;
+        suppressed.set(hintID, suppress);
+      } else {
+        changed = suppress ? suppressedOther.add(hintID) : suppressedOther.remove(hintID);
+      }
+    }
+    if(changed && writeScheduled.compareAndSet(false, true)) {
+      executor.execute(writeTask);
+    }
+  }
+
+  /**
+   * Makes all hints show up again.
+   */
+  public void reset() {
+    awaitLoaded();
+    synchronized(this) {
+      suppressed.clear();
+      suppressedOther.clear();
+    }
+    if(writeScheduled.compareAndSet(false, true)) {
+      executor.execute(writeTask);
+    }
+  }
+
+  /**
+   * <p>Shows the hint, unless the user chose not to see it again. The user's choice is recorded
+   * in this registry when the hint is closed.</p>
+   *
+   * <p>The hint is shown through the {@link DialogScheduler}, so the same hint is never shown twice
+   * at the same time. The <code>Activity</code> is registered as the hint's
+   * {@link HintActionHandler} if it implements that interface, but it does not need to.</p>
+   *
+   * <p>This method never blocks: if the registry is still loading, the decision is made once it
+   * is loaded.</p>
+   *
+   * @param activity The <code>Activity</code> to show the hint in.
+   * @param titleID The <code>String</code> resource ID of the title.
+   * @param messageID The <code>String</code> resource ID of the hint-message.
+   * @param hintID The ID of the hint.
+   */
+  public void showIfNotSuppressed(Activity activity, final int titleID, final int messageID, final int hintID) {
+    if(isLoaded()) {
+      if(!isSuppressed(hintID)) {
+        showHint(activity, titleID, messageID, hintID);
+      }
+      return;
+    }
+
+    final WeakReference<Activity> activityReference = new WeakReference<Activity>(activity);
+    executor.execute(new Runnable() {
+      @Override
+      public void run() {
+        if(isSuppressed(hintID)) {
+          return;
+        }
+        FrameScheduler.getInstance().post(new Runnable() {
+          @Override
+          public void run() {
+            Activity activity = activityReference.get();
+            if((activity != null) && !activity.isFinishing()) {
+              showHint(activity, titleID, messageID, hintID);
+            }
+          }
+        });
+      }
+    });
+  }
+
+  private void showHint(Activity activity, int titleID, int messageID, int hintID) {
+    HintDialogFragment dialogFragment = HintDialogFragment.createDialog(titleID, messageID, hintID);
+    HintArguments.from(dialogFragment.getArguments()).setRegistered(true);
+    dialogFragment.setRegisterHandler(activity instanceof HintActionHandler);
+    DialogScheduler.getInstance().schedule(activity, dialogFragment, String.valueOf(hintID), DialogScheduler.PRIORITY_NORMAL);
+  }
+
+  private void awaitLoaded() {
+    boolean interrupted = false;
+    while(true) {
+      try {
+        loadedLatch.await();
+        break;
+      } catch(InterruptedException ex) {
+        interrupted = true;
+      }
+    }
+    if(interrupted) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private synchronized String serialize() {
+    StringBuilder sb = new StringBuilder();
+    for(int id = suppressed.nextSetBit(0); id >= 0; id = suppressed.nextSetBit(id + 1)) {
+      sb.append(id).append(',');
+    }
+    for(Integer id : suppressedOther) {
+      sb.append(id).append(',');
+    }
+    return sb.toString();
+  }
+
+  private synchronized void deserialize(String value) {
+    if(value == null) {
+      return;
+    }
+    int start = 0;
+    int end;
+    while((end = value.indexOf(',', start)) >= 0) {
+      try {
+        int id = Integer.parseInt(value.substring(start, end));
+        if((id >= 0) && (id < MAX_BITSET_ID)) {
+          suppressed.set(id);
+        } else {
+          suppressedOther.add(id);
+        }
+      } catch(NumberFormatException ex) {
+        // skip corrupted entries
+      }
+      start = end + 1;
+    }
+  }
+}
@@ -0,0 +1,200 @@
+package de.dimensionv.android.androdialogs.common;
+
+import android.content.res.Resources;
+import android.text.Spannable;
+import android.text.SpannableString;
+import android.text.method.LinkMovementMethod;
+import android.text.util.Linkify;
+import android.util.Log;
+import android.util.SparseArray;
+import android.widget.TextView;
+
+import java.util.ArrayList;
+import java.util.Locale;
+
+/**
+ * <p>Linkifies the texts of string resources on the background executor and caches the results,
+ * keyed by resource ID and locale.</p>
+ *
+ * <p>Scanning a long text for links is too expensive to be done on the main thread every time a
+ * dialog is shown. Instead, a dialog shows the plain text right away, requests the linkified text
+ * via {@link #linkify(Resources, int, int, OnLinkifiedListener)} and swaps it in when it is ready,
+ * using {@link #setLinkifiedText(TextView, CharSequence)}. When the dialog is shown again, e.g.
+ * after a rotation, the linkified text is already cached.</p>
+ *
+ * <p>Only the texts of the current locale are kept. All methods have to be called on the main
+ * thread.</p>
+ *
+ * @author Volkmar Seifert
+ * @version 1.0
+ * @since API 2.1.0
+ */
+public class LinkifiedTexts {
+
+  private static final String TAG = "LinkifiedTexts";
+
+  private static LinkifiedTexts instance = null;
+
+  private final SparseArray<Entry> texts = new SparseArray<Entry>();
+  private final SparseArray<ArrayList<OnLinkifiedListener>> pending = new SparseArray<ArrayList<OnLinkifiedListener>>();
+  private Locale locale = null;
+
+  private LinkifiedTexts() {
+  }
+
+  /**
+   * Returns the shared <code>LinkifiedTexts</code>.
+   *
+   * @return The shared <code>LinkifiedTexts</code>.
+   */
+  public static synchronized LinkifiedTexts getInstance() {
+    if(instance == null) {
+      instance = new LinkifiedTexts();
+    }
+    return instance;
+  }
+
+  /**
+   * Returns the cached linkified text of the given string resource.
+   *
+   * @param resources The <code>Resources</code> of the current locale.
+   * @param resourceID The resource ID of the text.
+   * @param mask The link types, as in <code>Linkify.addLinks()</code>.
+   * @return The linkified text, or null if it is not cached.
+   */
+  public CharSequence getCached(Resources resources, int resourceID, int mask) {
+    checkLocale(resources);
+    Entry entry = texts.get(resourceID);
+    return ((entry != null) && (entry.mask == mask)) ? entry.text : null;
+  }
+
+  /**
+   * <p>Linkifies the text of the given string resource on the background executor. The listener
+   * is called on the main thread once the text is ready, or right away if it is cached
+   * already.</p>
+   *
+   * <p>Requests for a text that is already being linkified are not processed twice.</p>
+   *
+   * @param resources The <code>Resources</code> of the current locale.
+   * @param resourceID The resource ID of the text.
+   * @param mask The link types, as in <code>Linkify.addLinks()</code>.
+   * @param listener The listener to be called with the linkified text.
+   */
+  public void linkify(final Resources resources, final int resourceID, final int mask, OnLinkifiedListener listener) {
+    CharSequence cached = getCached(resources, resourceID, mask);
+    if(cached != null) {
+      listener.onLinkified(resourceID, cached);
+      return;
+    }
+
+    ArrayList<OnLinkifiedListener> listeners = pending.get(resourceID);
+    if(listeners != null) {
+      listeners.add(listener);
+      return;
+    }
+    listeners = new ArrayList<OnLinkifiedListener>(2);
+    listeners.add(listener);
+    pending.put(resourceID, listeners);
+
+    final Locale requestLocale = locale;
+    DialogExecutors.getBackgroundExecutor().execute(new Runnable() {
+      @Override
+      public void run() {
+        CharSequence text = null;
+        try {
+          CharSequence plainText = resources.getText(resourceID);
+          Spannable spannable = new SpannableString(plainText);
+          // texts without links are cached as they are
+          text = Linkify.addLinks(spannable, mask) ? spannable : plainText;
+        } catch(RuntimeException ex) {
+          Log.w(TAG, "Linkifying text #0x" + Integer.toHexString(resourceID) + " failed.", ex);
+        }
+        final CharSequence linkifiedText = text;
+        FrameScheduler.getInstance().post(new Runnable() {
+          @Override
+          public void run() {
+            deliver(resourceID, mask, requestLocale, linkifiedText);
+          }
+        });
+      }
+    });
+  }
+
+  /**
+   * Caches the linkified text and notifies the listeners waiting for it. Called on the main thread.
+   */
+  private void deliver(int resourceID, int mask, Locale requestLocale, CharSequence text) {
+    ArrayList<OnLinkifiedListener> listeners = pending.get(resourceID);
+    pending.remove(resourceID);
+    if((text == null) || !requestLocale.equals(locale)) {
+      // failed, or the locale changed in the meantime: keep the plain text
+      return;
+    }
+    texts.put(resourceID, new Entry(text, mask));
+    if(listeners != null) {
+      for(OnLinkifiedListener listener : listeners) {
+        listener.onLinkified(resourceID, text);
+      }
+    }
+  }
+
+  /**
+   * <p>Sets a linkified text to the given <code>TextView</code> and makes its links clickable, if
+   * it has any.</p>
+   *
+   * <p>The <code>TextView</code> copies a text with links, so the cached text is never
+   * modified.</p>
+   *
+   * @param textView The <code>TextView</code> to show the text.
+   * @param text The linkified text.
+   */
+  public static void setLinkifiedText(TextView textView, CharSequence text) {
+    if(text instanceof Spannable) {
+      // set the movement method first, so the TextView keeps a copy of the text
+      textView.setMovementMethod(LinkMovementMethod.getInstance());
+    }
+    textView.setText(text);
+  }
+
+  /**
+   * Drops all cached texts, e.g. when memory is low.
+   */
+  public void clear() {
+    texts.clear();
+  }
+
+  private void checkLocale(Resources resources) {
+    Locale currentLocale = resources.getConfiguration().locale;
+    if(!currentLocale.equals(locale)) {
+      texts.clear();
+      locale = currentLocale;
+    }
+  }
+
+  /**
+   * Listener to be called when a linkified text is ready.
+   */
+  public interface OnLinkifiedListener {
+
+    /**
+     * Called on the main thread with the linkified text.
+     *
+     * @param resourceID The resource ID of the text.
+     * @param text The linkified text, to be set via {@link LinkifiedTexts#setLinkifiedText(TextView, CharSequence)}.
+     */
+    void onLinkified(int resourceID, CharSequence text);
+  }
+
+  /**
+   * A cached text, with the link types it was linkified for.
+   */
+  private static class Entry {
+    final CharSequence text;
+    final int mask;
+
+    Entry(CharSequence text, int mask) {
+      this.text = text;
+      this.mask = mask;
+    }
+  }
+}
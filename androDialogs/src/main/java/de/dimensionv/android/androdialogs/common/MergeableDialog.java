@@ -0,0 +1,24 @@
+package de.dimensionv.android.androdialogs.common;
+
+/**
+ * <p>Interface for dialogs that can absorb duplicates of themselves.</p>
+ *
+ * <p>When the {@link DialogScheduler} receives a dialog whose tag and key match a dialog that is
+ * already pending or showing, the duplicate is dropped. If the existing dialog implements this
+ * interface, it is given the chance to merge the duplicate's information first, e.g. by
+ * counting it.</p>
+ *
+ * @author Volkmar Seifert
+ * @version 1.0
+ * @since API 2.1.0
+ */
+public interface MergeableDialog {
+
+  /**
+   * Merges a duplicate of this dialog, which will not be shown. Called on the thread that
+   * scheduled the duplicate.
+   *
+   * @param duplicate The duplicate dialog.
+   */
+  public void mergeDuplicate(DialogFragmentInterface duplicate);
+}
@@ -0,0 +1,270 @@
+package de.dimensionv.android.androdialogs.common;
+
+import java.text.DecimalFormatSymbols;
+import java.util.Formattable;
+import java.util.Formatter;
+import java.util.Locale;
+import java.util.MissingFormatArgumentException;
+
+/**
+ * <p>A message pattern in the syntax of <code>String.format()</code>, parsed once, so formatting
+ * it neither re-parses the pattern nor creates a <code>Formatter</code>.</p>
+ *
+ * <p>Patterns that only use the plain conversions <code>%s</code> and <code>%d</code>, possibly
+ * with an explicit argument index like <code>%1$s</code>, as well as <code>%%</code> and
+ * <code>%n</code>, are rendered directly. All other patterns, and arguments the plain conversions
+ * cannot handle the same way as the <code>Formatter</code>, are formatted by a
+ * <code>Formatter</code>, so the result is always the same as that of
+ * <code>String.format(locale, pattern, args)</code>.</p>
+ *
+ * <p>Use {@link MessageTemplates} to get the templates of string resources.</p>
+ *
+ * @author Volkmar Seifert
+ * @version 1.0
+ * @since API 2.1.0
+ */
+public class MessageTemplate {
+
+  private static final char CONVERSION_STRING = 's';
+  private static final char CONVERSION_DECIMAL = 'd';
+
+  // builders are reused per thread, as formatting may also happen on background threads; while a
+  // builder is in use, the thread's slot is empty
+  private static final ThreadLocal<StringBuilder> BUILDER = new ThreadLocal<StringBuilder>() {
+    @Override
+    protected StringBuilder initialValue() {
+      return new StringBuilder(256);
+    }
+  };
+  private static final int MAX_REUSED_CAPACITY = 4096;
+
+  private final String pattern;
+  private final Locale locale;
+  private final char zeroDigit;
+
+  // literals[i] precedes the i-th placeholder, the last literal follows the last one;
+  // null if the pattern cannot be rendered directly
+  private final String literals[];
+  private final int argumentIndexes[];
+  private final char conversions[];
+
+  private MessageTemplate(String pattern, Locale locale, String literals[], int argumentIndexes[], char conversions[]) {
+    this.pattern = pattern;
+    this.locale = locale;
+    this.zeroDigit = DecimalFormatSymbols.getInstance(locale).getZeroDigit();
+    this.literals = literals;
+    this.argumentIndexes = argumentIndexes;
+    this.conversions = conversions;
+  }
+
+  /**
+   * Parses the given pattern.
+   *
+   * @param pattern The pattern, in the syntax of <code>String.format()</code>.
+   * @param locale The locale to format the pattern for.
+   * @return The parsed template.
+   */
+  public static MessageTemplate compile(String pattern, Locale locale) {
+    int count = 0;
+    for(int i = pattern.indexOf('%'); i >= 0; i = pattern.indexOf('%', i + 2)) {
+      count++;
+    }
+
+    String literals[] = new String[count + 1];
+    int argumentIndexes[] = new int[count];
+    char conversions[] = new char[count];
+    StringBuilder literal = new StringBuilder();
+    int placeholders = 0;
+    int ordinaryIndex = 0;
+    int length = pattern.length();
+
+    for(int i = 0; i < length; i++) {
+      char c = pattern.charAt(i);
+      if(c != '%') {
+        literal.append(c);
+        continue;
+      }
+
+      // parse an optional explicit argument index, followed by the conversion
+      int start = ++i;
+      while((i < length) && Character.isDigit(pattern.charAt(i))) {
+        i++;
+      }
+      int argumentIndex;
+      if(i > start) {
+        if((i + 1 >= length) || (pattern.charAt(i) != '$')) {
+          return new MessageTemplate(pattern, locale, null, null, null);
+        }
+        argumentIndex = Integer.parseInt(pattern.substring(start, i)) - 1;
+        if(argumentIndex < 0) {
+          return new MessageTemplate(pattern, locale, null, null, null);
+        }
+        i++;
+      } else {
+        argumentIndex = -1;
+      }
+      if(i >= length) {
+        return new MessageTemplate(pattern, locale, null, null, null);
+      }
+
+      char conversion = pattern.charAt(i);
+      if((argumentIndex < 0) && (conversion == '%')) {
+        literal.append('%');
+      } else if((argumentIndex < 0) && (conversion == 'n')) {
+        literal.append(System.getProperty("line.separator"));
+      } else if((conversion == CONVERSION_STRING) || (conversion == CONVERSION_DECIMAL)) {
+        literals[placeholders] = literal.toString();
+        literal.setLength(0);
+        argumentIndexes[placeholders] = (argumentIndex >= 0) ? argumentIndex : ordinaryIndex++;
+        conversions[placeholders] = conversion;
+        placeholders++;
+      } else {
+        // flags, widths, precisions and all other conversions are left to the Formatter
+        return new MessageTemplate(pattern, locale, null, null, null);
+      }
+    }
+    literals[placeholders] = literal.toString();
+
+    if(placeholders < count) {
+      String trimmedLiterals[] = new String[placeholders + 1];
+      int trimmedIndexes[] = new int[placeholders];
+      char trimmedConversions[] = new char[placeholders];
+      System.arraycopy(literals, 0, trimmedLiterals, 0, placeholders);
+      trimmedLiterals[placeholders] = literals[placeholders];
+      System.arraycopy(argumentIndexes, 0, trimmedIndexes, 0, placeholders);
+      System.arraycopy(conversions, 0, trimmedConversions, 0, placeholders);
+      literals = trimmedLiterals;
+      argumentIndexes = trimmedIndexes;
+      conversions = trimmedConversions;
+    }
+    return new MessageTemplate(pattern, locale, literals, argumentIndexes, conversions);
+  }
+
+  /**
+   * Returns the pattern of this template.
+   *
+   * @return The pattern.
+   */
+  public String getPattern() {
+    return pattern;
+  }
+
+  /**
+   * Returns the locale this template formats for.
+   *
+   * @return The locale.
+   */
+  public Locale getLocale() {
+    return locale;
+  }
+
+  /**
+   * Returns whether the pattern is rendered directly, instead of through a
+   * <code>Formatter</code>.
+   *
+   * @return <code>true</code> if the pattern is pre-parsed, <code>false</code> otherwise.
+   */
+  public boolean isCompiled() {
+    return literals != null;
+  }
+
+  /**
+   * Formats the template with the given arguments, using a builder that is reused per thread. If
+   * the builder is already in use, because an argument's <code>toString()</code> formats another
+   * template on the same thread, a new builder is used instead.
+   *
+   * @param args The arguments referenced by the pattern.
+   * @return The formatted message.
+   */
+  public String format(Object... args) {
+    StringBuilder builder = BUILDER.get();
+    if(builder == null) {
+      // re-entrant call, the builder holds the outer message
+      return appendTo(new StringBuilder(), args).toString();
+    }
+    BUILDER.set(null);
+    try {
+      builder.setLength(0);
+      return appendTo(builder, args).toString();
+    } finally {
+      // don't keep a huge buffer around for good
+      BUILDER.set((builder.capacity() > MAX_REUSED_CAPACITY) ? new StringBuilder(256) : builder);
+    }
+  }
+
+  /**
+   * Appends the template, formatted with the given arguments, to the given builder.
+   *
+   * @param builder The builder to append to.
+   * @param args The arguments referenced by the pattern.
+   * @return The given builder.
+   */
+  public StringBuilder appendTo(StringBuilder builder, Object... args) {
+    if(!canRender(args)) {
+      new Formatter(builder, locale).format(pattern, args);
+      return builder;
+    }
+
+    int count = argumentIndexes.length;
+    for(int i = 0; i < count; i++) {
+      builder.append(literals[i]);
+      int index = argumentIndexes[i];
+      if(index >= args.length) {
+        throw new MissingFormatArgumentException("%" + conversions[i]);
+      }
+      Object arg = args[index];
+      if(conversions[i] == CONVERSION_STRING) {
+        builder.append(arg);
+      } else if(arg == null) {
+        builder.append("null");
+      } else {
+        appendDecimal(builder, ((Number) arg).longValue());
+      }
+    }
+    builder.append(literals[count]);
+    return builder;
+  }
+
+  /**
+   * Checks whether the arguments can be rendered directly, so that the result is the same as
+   * that of the <code>Formatter</code>.
+   */
+  private boolean canRender(Object args[]) {
+    if(literals == null) {
+      return false;
+    }
+    for(int i = 0; i < argumentIndexes.length; i++) {
+      int index = argumentIndexes[i];
+      if(index >= args.length) {
+        continue;
+      }
+      Object arg = args[index];
+      if(conversions[i] == CONVERSION_STRING) {
+        if(arg instanceof Formattable) {
+          return false;
+        }
+      } else if((arg != null) && !(arg instanceof Integer) && !(arg instanceof Long)
+                && !(arg instanceof Short) && !(arg instanceof Byte)) {
+        // BigIntegers and illegal conversions are left to the Formatter
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void appendDecimal(StringBuilder builder, long value) {
+    if(zeroDigit == '0') {
+      builder.append(value);
+      return;
+    }
+    // localized digits, like the Formatter does
+    int start = builder.length();
+    builder.append(value);
+    for(int i = start; i < builder.length(); i++) {
+      char c = builder.charAt(i);
+      if((c >= '0') && (c <= '9')) {
+        builder.setCharAt(i, (char) (c - '0' + zeroDigit));
+      }
+    }
+  }
+}
@@ -0,0 +1,91 @@
+package de.dimensionv.android.androdialogs.common;
+
+import android.content.res.Resources;
+import android.util.SparseArray;
+
+import java.util.Locale;
+
+/**
+ * <p>A cache of the {@link MessageTemplate}s of string resources, keyed by resource ID and
+ * locale.</p>
+ *
+ * <p>Dialogs that format a message from a string resource on every creation, e.g. after every
+ * rotation, should get it from here instead of calling <code>String.format()</code>. This works
+ * for custom dialogs just the same as for those of the library:</p>
+ *
+ * <pre>
+ * String message = MessageTemplates.getInstance().format(getResources(), R.string.myMessage, data);
+ * </pre>
+ *
+ * <p>Only the templates of the current locale are kept, as the locale hardly ever changes while
+ * the app is running. The cache may be used from any thread.</p>
+ *
+ * @author Volkmar Seifert
+ * @version 1.0
+ * @since API 2.1.0
+ */
+public class MessageTemplates {
+
+  private static MessageTemplates instance = null;
+
+  private final SparseArray<MessageTemplate> templates = new SparseArray<MessageTemplate>();
+  private Locale locale = null;
+
+  private MessageTemplates() {
+  }
+
+  /**
+   * Returns the shared <code>MessageTemplates</code>.
+   *
+   * @return The shared <code>MessageTemplates</code>.
+   */
+  public static synchronized MessageTemplates getInstance() {
+    if(instance == null) {
+      instance = new MessageTemplates();
+    }
+    return instance;
+  }
+
+  /**
+   * Returns the template of the given string resource, parsing it if it's not cached yet.
+   *
+   * @param resources The <code>Resources</code> to load the string resource from.
+   * @param resourceID The resource ID of the pattern.
+   * @return The template.
+   */
+  public MessageTemplate getTemplate(Resources resources, int resourceID) {
+    Locale currentLocale = resources.getConfiguration().locale;
+    synchronized(this) {
+      if(!currentLocale.equals(locale)) {
+        templates.clear();
+        locale = currentLocale;
+      }
+      MessageTemplate template = templates.get(resourceID);
+      if(template == null) {
+        template = MessageTemplate.compile(resources.getString(resourceID), currentLocale);
+        templates.put(resourceID, template);
+      }
+      return template;
+    }
+  }
+
+  /**
+   * Formats the given string resource with the given arguments, like
+   * <code>Resources.getString(int, Object...)</code> does.
+   *
+   * @param resources The <code>Resources</code> to load the string resource from.
+   * @param resourceID The resource ID of the pattern.
+   * @param args The arguments referenced by the pattern.
+   * @return The formatted message.
+   */
+  public String format(Resources resources, int resourceID, Object... args) {
+    return getTemplate(resources, resourceID).format(args);
+  }
+
+  /**
+   * Drops all cached templates, e.g. when memory is low.
+   */
+  public synchronized void clear() {
+    templates.clear();
+  }
+}
@@ -0,0 +1,20 @@
+package de.dimensionv.android.androdialogs.common;
+
+/**
+ * <p>Listener that is notified when a dialog fragment is finally destroyed, i.e. after it has been
+ * dismissed and removed. Recreating the dialog's view during a configuration change does not
+ * count as being destroyed.</p>
+ *
+ * @author Volkmar Seifert
+ * @version 1.0
+ * @since API 2.1.0
+ */
+public interface OnDialogDestroyedListener {
+
+  /**
+   * Called when the dialog fragment is destroyed.
+   *
+   * @param dialog The dialog fragment that was destroyed.
+   */
+  public void onDialogDestroyed(DialogFragmentInterface dialog);
+}
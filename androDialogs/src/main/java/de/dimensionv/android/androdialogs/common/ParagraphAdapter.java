@@ -0,0 +1,238 @@
+package de.dimensionv.android.androdialogs.common;
+
+import android.content.res.Resources;
+import android.text.Spannable;
+import android.text.SpannableString;
+import android.text.util.Linkify;
+import android.util.Log;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.BaseAdapter;
+import android.widget.TextView;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+
+/**
+ * <p>An adapter that shows a long text paragraph by paragraph, e.g. in a <code>ListView</code>, so
+ * only the visible paragraphs are laid out and their views are recycled.</p>
+ *
+ * <p>The text is read from a string or raw resource on the background executor and split into
+ * paragraphs at blank lines. The paragraphs are added in batches as they are read, so the first
+ * ones are shown right away, while the rest of the text is still loading. Links are detected in
+ * the background as well.</p>
+ *
+ * <p>The adapter does not keep a reference to any view or <code>Activity</code>, so it may outlive
+ * the list it was set to, e.g. in a retained dialog. All methods except for the loading itself
+ * have to be called on the main thread.</p>
+ *
+ * @author Volkmar Seifert
+ * @version 1.0
+ * @since API 2.1.0
+ */
+public class ParagraphAdapter extends BaseAdapter {
+
+  private static final String TAG = "ParagraphAdapter";
+
+  // the first batch only has to fill the screen, later ones may be bigger to save on layout passes
+  private static final int FIRST_BATCH_SIZE = 16;
+  private static final int MAX_BATCH_SIZE = 256;
+  private static final float PARAGRAPH_SPACING_DP = 8f;
+
+  private final int linkMask;
+  private final ArrayList<CharSequence> paragraphs = new ArrayList<CharSequence>();
+  private boolean loading = false;
+  private boolean complete = false;
+  private volatile boolean cancelled = false;
+
+  /**
+   * Creates a new, empty adapter.
+   *
+   * @param linkMask The link types to be detected, as in <code>Linkify.addLinks()</code>, or 0 to
+   *                 show the text as it is.
+   */
+  public ParagraphAdapter(int linkMask) {
+    this.linkMask = linkMask;
+  }
+
+  /**
+   * Starts loading the paragraphs of the given string resource.
+   *
+   * @param resources The <code>Resources</code> to load the text from.
+   * @param resourceID The resource ID of the text.
+   */
+  public void loadString(final Resources resources, final int resourceID) {
+    load(new Source() {
+      @Override
+      public Reader open() {
+        return new StringReader(resources.getText(resourceID).toString());
+      }
+    });
+  }
+
+  /**
+   * Starts loading the paragraphs of the given raw resource, which has to be a UTF-8 encoded text.
+   *
+   * @param resources The <code>Resources</code> to load the text from.
+   * @param resourceID The resource ID of the raw text.
+   */
+  public void loadRaw(final Resources resources, final int resourceID) {
+    load(new Source() {
+      @Override
+      public Reader open() throws IOException {
+        return new InputStreamReader(resources.openRawResource(resourceID), "UTF-8");
+      }
+    });
+  }
+
+  /**
+   * Returns whether the text is loaded completely.
+   *
+   * @return <code>true</code> if all paragraphs are loaded, <code>false</code> otherwise.
+   */
+  public boolean isComplete() {
+    return complete;
+  }
+
+  /**
+   * Stops loading the text, e.g. when the dialog is destroyed. The paragraphs loaded so far are
+   * kept.
+   */
+  public void cancel() {
+    cancelled = true;
+  }
+
+  private void load(final Source source) {
+    if(loading) {
+      throw new IllegalStateException("The adapter is already loading a text.");
+    }
+    loading = true;
+    DialogExecutors.getBackgroundExecutor().execute(new Runnable() {
+      @Override
+      public void run() {
+        read(source);
+      }
+    });
+  }
+
+  /**
+   * Reads the text and publishes its paragraphs in batches of growing size. Called on the
+   * background executor.
+   */
+  private void read(Source source) {
+    ArrayList<CharSequence> batch = new ArrayList<CharSequence>(FIRST_BATCH_SIZE);
+    int batchSize = FIRST_BATCH_SIZE;
+    BufferedReader reader = null;
+    try {
+      reader = new BufferedReader(source.open());
+      StringBuilder paragraph = new StringBuilder();
+      String line;
+      while(!cancelled && ((line = reader.readLine()) != null)) {
+        if(line.trim().length() > 0) {
+          if(paragraph.length() > 0) {
+            paragraph.append('\n');
+          }
+          paragraph.append(line);
+        } else if(paragraph.length() > 0) {
+          batch.add(toParagraph(paragraph));
+          paragraph.setLength(0);
+          if(batch.size() >= batchSize) {
+            publish(batch, false);
+            batchSize = Math.min(batchSize * 2, MAX_BATCH_SIZE);
+            batch = new ArrayList<CharSequence>(batchSize);
+          }
+        }
+      }
+      if(paragraph.length() > 0) {
+        batch.add(toParagraph(paragraph));
+      }
+    } catch(IOException ex) {
+      Log.w(TAG, "Reading the text failed.", ex);
+    } catch(RuntimeException ex) {
+      Log.w(TAG, "Reading the text failed.", ex);
+    } finally {
+      if(reader != null) {
+        try {
+          reader.close();
+        } catch(IOException ex) {
+          // nothing left to read anyway
+        }
+      }
+    }
+    // whatever was read is shown, even if reading failed
+    publish(batch, true);
+  }
+
+  private CharSequence toParagraph(StringBuilder paragraph) {
+    String text = paragraph.toString();
+    if(linkMask == 0) {
+      return text;
+    }
+    Spannable spannable = new SpannableString(text);
+    // paragraphs without links are kept as plain strings
+    return Linkify.addLinks(spannable, linkMask) ? spannable : text;
+  }
+
+  private void publish(final ArrayList<CharSequence> batch, final boolean last) {
+    FrameScheduler.getInstance().post(new Runnable() {
+      @Override
+      public void run() {
+        if(cancelled) {
+          return;
+        }
+        paragraphs.addAll(batch);
+        complete = last;
+        notifyDataSetChanged();
+      }
+    });
+  }
+
+  @Override
+  public int getCount() {
+    return paragraphs.size();
+  }
+
+  @Override
+  public CharSequence getItem(int position) {
+    return paragraphs.get(position);
+  }
+
+  @Override
+  public long getItemId(int position) {
+    return position;
+  }
+
+  @Override
+  public boolean areAllItemsEnabled() {
+    return false;
+  }
+
+  @Override
+  public boolean isEnabled(int position) {
+    // paragraphs are not selectable, only their links are clickable
+    return false;
+  }
+
+  @Override
+  public View getView(int position, View convertView, ViewGroup parent) {
+    TextView textView = (TextView) convertView;
+    if(textView == null) {
+      textView = new TextView(parent.getContext());
+      int spacing = (int) (PARAGRAPH_SPACING_DP * parent.getResources().getDisplayMetrics().density + 0.5f);
+      textView.setPadding(0, 0, 0, spacing);
+    }
+    LinkifiedTexts.setLinkifiedText(textView, paragraphs.get(position));
+    return textView;
+  }
+
+  /**
+   * The source of the text to be loaded.
+   */
+  private interface Source {
+    Reader open() throws IOException;
+  }
+}
@@ -0,0 +1,217 @@
+package de.dimensionv.android.androdialogs.common;
+
+import android.annotation.TargetApi;
+import android.app.Activity;
+import android.app.Application;
+import android.os.Build;
+import android.os.Bundle;
+import android.os.Parcelable;
+import android.util.SparseArray;
+import android.view.View;
+import android.view.ViewGroup;
+import android.view.ViewParent;
+
+import java.util.ArrayList;
+
+import de.dimensionv.android.androdialogs.R;
+
+/**
+ * <p>A pool of inflated dialog content views, organized by layout resource ID.</p>
+ *
+ * <p>Dialogs that are shown over and over again with the same layout can return their content
+ * view to the pool when they are dismissed, and draw it from there the next time instead of
+ * inflating it again. The number of views retained per layout is capped.</p>
+ *
+ * <p>A pooled view must not bring back what the user entered during its last show. The state of a
+ * freshly inflated view is therefore saved with {@link #saveInitialState(View)}, and restored when
+ * the view is returned to the pool, which resets e.g. the text of input fields and the checked
+ * state of check boxes. Like any saved state, this only covers views with an ID. Views without a
+ * saved initial state are not pooled.</p>
+ *
+ * <p>Views keep a reference to the <code>Activity</code> they were inflated for. A pooled view is
+ * therefore only handed out for that same <code>Activity</code>, and all views of an
+ * <code>Activity</code> are dropped when it is destroyed (on API level 14 and above) or when it is
+ * found to be stale.</p>
+ *
+ * <p>All methods must be called on the main thread.</p>
+ *
+ * @author Volkmar Seifert
+ * @version 1.0
+ * @since API 2.1.0
+ */
+public class ViewPool {
+
+  /**
+   * The default maximum number of views retained per layout.
+   */
+  public static final int DEFAULT_MAX_POOLED_VIEWS = 2;
+
+  private static final SparseArray<ArrayList<View>> pool = new SparseArray<ArrayList<View>>();
+  private static int maxPooledViews = DEFAULT_MAX_POOLED_VIEWS;
+  private static boolean lifecycleCallbacksRegistered = false;
+
+  private ViewPool() {
+    // utility class, no instances
+  }
+
+  /**
+   * Takes a view of the given layout from the pool, that has been inflated for the given
+   * <code>Activity</code>.
+   *
+   * @param activity The <code>Activity</code> the view is needed for.
+   * @param layoutResourceID The resource ID of the layout.
+   * @return A pooled view, or null if none is available.
+   */
+  public static View acquire(Activity activity, int layoutResourceID) {
+    registerLifecycleCallbacks(activity);
+    ArrayList<View> views = pool.get(layoutResourceID);
+    if(views == null) {
+      return null;
+    }
+    while(!views.isEmpty()) {
+      View view = views.remove(views.size() - 1);
+      if(view.getContext() == activity) {
+        return view;
+      }
+      // inflated for another Activity, which is most likely gone by now: drop it
+    }
+    return null;
+  }
+
+  /**
+   * Saves the state of a freshly inflated view, before it is populated or shown, so it can be
+   * reset when it is returned to the pool. The state holds no reference to the views, so it is
+   * kept as a tag of the view itself.
+   *
+   * @param view The freshly inflated view.
+   */
+  public static void saveInitialState(View view) {
+    SparseArray<Parcelable> state = new SparseArray<Parcelable>();
+    view.saveHierarchyState(state);
+    view.setTag(R.id.viewPoolStateTag, state);
+  }
+
+  /**
+   * Detaches the given view from its parent, resets it to the state saved by
+   * {@link #saveInitialState(View)}, and returns it to the pool, unless the pool for its layout is
+   * already full or the view has no saved state.
+   *
+   * @param layoutResourceID The resource ID of the layout the view was inflated from.
+   * @param view The view to be returned to the pool.
+   */
+  @SuppressWarnings("unchecked")
+  public static void release(int layoutResourceID, View view) {
+    ViewParent parent = view.getParent();
+    if(parent instanceof ViewGroup) {
+      ((ViewGroup) parent).removeView(view);
+    }
+    Object context = view.getContext();
+    if((context instanceof Activity) && ((Activity) context).isFinishing()) {
+      return;
+    }
+    SparseArray<Parcelable> initialState = (SparseArray<Parcelable>) view.getTag(R.id.viewPoolStateTag);
+    if(initialState == null) {
+      // cannot be reset
+      return;
+    }
+    view.restoreHierarchyState(initialState);
+    ArrayList<View> views = pool.get(layoutResourceID);
+    if(views == null) {
+      views = new ArrayList<View>(maxPooledViews);
+      pool.put(layoutResourceID, views);
+    }
+    if(views.size() < maxPooledViews) {
+      views.add(view);
+    }
+  }
+
+  /**
+   * Drops all pooled views that were inflated for the given <code>Activity</code>.
+   *
+   * @param activity The <code>Activity</code> whose views should be dropped.
+   */
+  public static void clear(Activity activity) {
+    for(int i = 0; i < pool.size(); i++) {
+      ArrayList<View> views = pool.valueAt(i);
+      for(int j = views.size() - 1; j >= 0; j--) {
+        if(views.get(j).getContext() == activity) {
+          views.remove(j);
+        }
+      }
+    }
+  }
+
+  /**
+   * Drops all pooled views.
+   */
+  public static void clear() {
+    pool.clear();
+  }
+
+  /**
+   * Sets the maximum number of views retained per layout. Already pooled views exceeding the new
+   * limit are kept until they are acquired.
+   *
+   * @param maxViews The maximum number of views per layout.
+   */
+  public static void setMaxPooledViews(int maxViews) {
+    maxPooledViews = maxViews;
+  }
+
+  /**
+   * Returns the maximum number of views retained per layout.
+   *
+   * @return The maximum number of views per layout.
+   */
+  public static int getMaxPooledViews() {
+    return maxPooledViews;
+  }
+
+  private static void registerLifecycleCallbacks(Activity activity) {
+    if(!lifecycleCallbacksRegistered && (Build.VERSION.SDK_INT >= Build.VERSION_CODES.ICE_CREAM_SANDWICH)) {
+      LifecycleCallbacks.register(activity.getApplication());
+      lifecycleCallbacksRegistered = true;
+    }
+  }
+
+  /**
+   * Drops the views of destroyed activities. Kept in a separate class, so the outer class can
+   * still be loaded on devices below API level 14.
+   */
+  @TargetApi(Build.VERSION_CODES.ICE_CREAM_SANDWICH)
+  private static class LifecycleCallbacks implements Application.ActivityLifecycleCallbacks {
+
+    static void register(Application application) {
+      application.registerActivityLifecycleCallbacks(new LifecycleCallbacks());
+    }
+
+    @Override
+    public void onActivityDestroyed(Activity activity) {
+      clear(activity);
+    }
+
+    @Override
+    public void onActivityCreated(Activity activity, Bundle savedInstanceState) {
+    }
+
+    @Override
+    public void onActivityStarted(Activity activity) {
+    }
+
+    @Override
+    public void onActivityResumed(Activity activity) {
+    }
+
+    @Override
+    public void onActivityPaused(Activity activity) {
+    }
+
+    @Override
+    public void onActivityStopped(Activity activity) {
+    }
+
+    @Override
+    public void onActivitySaveInstanceState(Activity activity, Bundle outState) {
+    }
+  }
+}
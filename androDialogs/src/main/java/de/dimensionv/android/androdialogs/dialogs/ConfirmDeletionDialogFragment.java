@@ -57,6 +57,7 @@ import android.os.Bundle;
 import de.dimensionv.android.androdialogs.BaseDialogFragment;
 import de.dimensionv.android.androdialogs.R;
 import de.dimensionv.android.androdialogs.common.DialogConstants;
+import de.dimensionv.android.androdialogs.common.MessageTemplates;
 import de.dimensionv.android.androdialogs.handlers.ConfirmationActionHandler;
 
 /**
@@ -89,8 +90,8 @@ public class ConfirmDeletionDialogFragment extends BaseDialogFragment<Confirmati
     String data = arguments.getString(DialogConstants.DATA);
 
     if(data != null) {
-      String pattern = getResources().getString(arguments.getInt(DialogConstants.MESSAGE_RESOURCE_ID, messageResourceID));
-      builder.setMessage(String.format(pattern, data));
+      int patternResourceID = arguments.getInt(DialogConstants.MESSAGE_RESOURCE_ID, messageResourceID);
+      builder.setMessage(MessageTemplates.getInstance().format(getResources(), patternResourceID, data));
     } else {
       builder.setMessage(arguments.getInt(DialogConstants.MESSAGE_RESOURCE_ID, messageResourceID));
     }
@@ -162,23 +163,9 @@ public class ConfirmDeletionDialogFragment extends BaseDialogFragment<Confirmati
     return createDialog(null, true);
   }
 
-  /**
-   * This method will be invoked when the dialog is canceled.
-   *
-   * @param dialog
-   *          The dialog that was canceled will be passed into the method.
-   */
-  @Override
-  public void onCancel(DialogInterface dialog) {
-    super.onCancel(dialog);
-    ConfirmationActionHandler actionHandler = controller.getActionHandler();
-    if(actionHandler != null) {
-      actionHandler.onCancel(this);
-    }
-  }
-
   @Override
   public void onClick(DialogInterface dialog, int which) {
+    controller.onUserAction();
     ConfirmationActionHandler actionHandler = controller.getActionHandler();
     if(actionHandler != null) {
       switch(which) {
@@ -52,7 +52,6 @@ package de.dimensionv.android.androdialogs.dialogs;
 import android.app.AlertDialog.Builder;
 import android.content.DialogInterface;
 import android.os.Bundle;
-import android.view.LayoutInflater;
 
 import de.dimensionv.android.androdialogs.BaseDialogFragment;
 import de.dimensionv.android.androdialogs.common.DialogConstants;
@@ -80,8 +79,7 @@ public class DisplayDialogFragment extends BaseDialogFragment<ActionHandler> {
 
   @Override
   public void populateDialog(Builder builder, Bundle arguments) {
-    LayoutInflater li = getActivity().getLayoutInflater();
-    builder.setView(callInterceptor(li.inflate(arguments.getInt(DialogConstants.DIALOG_RESOURCE_ID), null)));
+    builder.setView(inflateView(arguments.getInt(DialogConstants.DIALOG_RESOURCE_ID)));
   }
 
   /**
@@ -0,0 +1,36 @@
+package de.dimensionv.android.androdialogs.dialogs;
+
+import de.dimensionv.android.androdialogs.annotations.DialogArguments;
+
+/**
+ * <p>The arguments of the {@link HintDialogFragment}, from which {@link HintArguments} is
+ * generated.</p>
+ *
+ * @author Volkmar Seifert
+ * @version 1.0
+ * @since API 2.1.0
+ */
+@DialogArguments
+interface HintArgumentsSpec {
+
+  /**
+   * @return The <code>String</code> resource ID of the title.
+   */
+  int getTitleResourceID();
+
+  /**
+   * @return The <code>String</code> resource ID of the hint-message.
+   */
+  int getMessageResourceID();
+
+  /**
+   * @return The ID of the hint.
+   */
+  int getHintID();
+
+  /**
+   * @return Whether the user's choice is recorded in the
+   *         {@link de.dimensionv.android.androdialogs.common.HintRegistry}.
+   */
+  boolean isRegistered();
+}
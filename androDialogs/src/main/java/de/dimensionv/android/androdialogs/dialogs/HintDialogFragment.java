@@ -15,20 +15,38 @@ import android.widget.TextView;
 
 import de.dimensionv.android.androdialogs.BaseDialogFragment;
 import de.dimensionv.android.androdialogs.R;
-import de.dimensionv.android.androdialogs.common.DialogConstants;
+import de.dimensionv.android.androdialogs.common.HintRegistry;
+import de.dimensionv.android.androdialogs.common.LinkifiedTexts;
 import de.dimensionv.android.androdialogs.handlers.HintActionHandler;
 
 /**
  * <p>A simple dialog for showing hints and tips with a single, neutral "OK"-close-button.</p>
  *
+ * <p>Use {@link HintRegistry#showIfNotSuppressed(Activity, int, int, int)} to have the
+ * "show again"-choice of the user remembered across app starts.</p>
+ *
  * @author Volkmar Seifert
- * @version 2.0
+ * @version 2.1
  * @since API 1.0.0
  */
 @SuppressWarnings("UnusedDeclaration")
 public class HintDialogFragment extends BaseDialogFragment<HintActionHandler> {
 
+  private static final int LINK_MASK = Linkify.EMAIL_ADDRESSES | Linkify.WEB_URLS;
+
   private CheckBox cbShowAgain = null;
+  private TextView tvMessage = null;
+  // the state of the checkbox, kept while the dialog is re-created
+  private boolean showAgain = true;
+
+  private final LinkifiedTexts.OnLinkifiedListener linkifiedListener = new LinkifiedTexts.OnLinkifiedListener() {
+    @Override
+    public void onLinkified(int resourceID, CharSequence text) {
+      if(tvMessage != null) {
+        LinkifiedTexts.setLinkifiedText(tvMessage, text);
+      }
+    }
+  };
 
   public HintDialogFragment() {
     super(HintActionHandler.class);
@@ -49,10 +67,8 @@ public class HintDialogFragment extends BaseDialogFragment<HintActionHandler> {
   public void onClick(DialogInterface dialog, int which) {
     switch(which) {
       case DialogInterface.BUTTON_NEUTRAL: {
-        HintActionHandler actionHandler = controller.getActionHandler();
-        if(actionHandler != null) {
-          actionHandler.onClose(getArguments().getInt(DialogConstants.HINT_ID), cbShowAgain.isChecked());
-        }
+        boolean checked = isShowAgainChecked();
+        close(checked, checked);
         break;
       }
     }
@@ -66,24 +82,75 @@ public class HintDialogFragment extends BaseDialogFragment<HintActionHandler> {
    */
   @Override
   public void onCancel(DialogInterface dialog) {
+    // the handler is told not to show the hint again, as it always was, but backing out of the
+    // dialog must not suppress a registered hint the user didn't opt out of
+    close(isShowAgainChecked(), false);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Keeps the state of the "show again"-checkbox for the re-created dialog and releases the
+   * views.</p>
+   *
+   * @since Class 2.1
+   * @since API 2.1.0
+   */
+  @Override
+  protected void releaseViews() {
+    if(cbShowAgain != null) {
+      showAgain = cbShowAgain.isChecked();
+      cbShowAgain = null;
+    }
+    tvMessage = null;
+  }
+
+  /**
+   * Records the user's choice in the {@link HintRegistry} if the hint was shown through it, and
+   * notifies the action handler.
+   *
+   * @param showAgain Whether the hint should be shown again, as recorded in the registry.
+   * @param reportedShowAgain The value reported to the action handler.
+   */
+  private void close(boolean showAgain, boolean reportedShowAgain) {
+    controller.onUserAction();
+    HintArguments arguments = HintArguments.from(getArguments());
+    int hintID = arguments.getHintID();
+    if(arguments.isRegistered()) {
+      HintRegistry.getInstance(getActivity()).setSuppressed(hintID, !showAgain);
+    }
     HintActionHandler actionHandler = controller.getActionHandler();
     if(actionHandler != null) {
-      actionHandler.onClose(getArguments().getInt(DialogConstants.HINT_ID), false);
+      actionHandler.onClose(hintID, reportedShowAgain);
     }
   }
 
+  private boolean isShowAgainChecked() {
+    return (cbShowAgain != null) ? cbShowAgain.isChecked() : showAgain;
+  }
+
   @Override
   public void populateDialog(Builder builder, Bundle arguments) {
     Activity activity = getActivity();
     @SuppressLint("InflateParams")
     View view = activity.getLayoutInflater().inflate(R.layout.hint_dialog_fragment, null);
-    TextView tv = (TextView) view.findViewById(R.id.tvHintMessage);
+    tvMessage = (TextView) view.findViewById(R.id.tvHintMessage);
     cbShowAgain = (CheckBox) view.findViewById(R.id.cbShowAgain);
-    cbShowAgain.setChecked(true);
-    tv.setText(getArguments().getInt(DialogConstants.MESSAGE_RESOURCE_ID));
-    Linkify.addLinks(tv, Linkify.EMAIL_ADDRESSES | Linkify.WEB_URLS);
+    cbShowAgain.setChecked(showAgain);
+    HintArguments hintArguments = HintArguments.from(arguments);
+
+    // show the plain message until its links are detected in the background
+    int messageID = hintArguments.getMessageResourceID();
+    LinkifiedTexts linkifiedTexts = LinkifiedTexts.getInstance();
+    CharSequence message = linkifiedTexts.getCached(getResources(), messageID, LINK_MASK);
+    if(message != null) {
+      LinkifiedTexts.setLinkifiedText(tvMessage, message);
+    } else {
+      tvMessage.setText(messageID);
+      linkifiedTexts.linkify(getResources(), messageID, LINK_MASK, linkifiedListener);
+    }
     builder.setView(view);
-    builder.setTitle(getArguments().getInt(DialogConstants.TITLE_RESOURCE_ID));
+    builder.setTitle(hintArguments.getTitleResourceID());
     builder.setNeutralButton(R.string.OK, this);
   }
 
@@ -108,11 +175,11 @@ public class HintDialogFragment extends BaseDialogFragment<HintActionHandler> {
    */
   public static HintDialogFragment createDialog(int titleID, int messageID, int hintID) {
     HintDialogFragment dialogFragment = new HintDialogFragment();
-    Bundle arguments = new Bundle();
-    arguments.putInt(DialogConstants.TITLE_RESOURCE_ID, titleID);
-    arguments.putInt(DialogConstants.MESSAGE_RESOURCE_ID, messageID);
-    arguments.putInt(DialogConstants.HINT_ID, hintID);
-    dialogFragment.setArguments(arguments);
+    HintArguments arguments = new HintArguments()
+        .setTitleResourceID(titleID)
+        .setMessageResourceID(messageID)
+        .setHintID(hintID);
+    dialogFragment.setArguments(arguments.toBundle());
     return dialogFragment;
   }
 
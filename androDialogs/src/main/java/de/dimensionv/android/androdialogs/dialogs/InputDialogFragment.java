@@ -49,58 +49,124 @@
 // //////////////////////////////////////////////////////////////////////////
 package de.dimensionv.android.androdialogs.dialogs;
 
+import android.app.AlertDialog;
 import android.app.AlertDialog.Builder;
+import android.app.Dialog;
 import android.content.DialogInterface;
 import android.os.Bundle;
-import android.view.LayoutInflater;
 import android.view.View;
+import android.widget.TextView;
 
 import de.dimensionv.android.androdialogs.BaseDialogFragment;
 import de.dimensionv.android.androdialogs.R;
 import de.dimensionv.android.androdialogs.common.DialogConstants;
 import de.dimensionv.android.androdialogs.handlers.ConfirmationActionHandler;
 import de.dimensionv.android.androdialogs.interceptors.ViewInterceptor;
+import de.dimensionv.android.androdialogs.validation.AsyncInputValidation;
+import de.dimensionv.android.androdialogs.validation.InputValidator;
 
 /**
  * <p>
  * An InputDialog is a dialog which can be used to let the user enter some data,
  * when a complete activity for handling that would be overkill.
  * </p>
+ * <p>
+ * The input can be validated in the background while the user types, see
+ * {@link #setInputValidator(int, InputValidator)}. The confirm-button is then only enabled while
+ * the latest input is valid.
+ * </p>
  *
  * @author Volkmar Seifert
- * @version 1.0
+ * @version 1.1
  * @since API 1.0.0
  */
 @SuppressWarnings("UnusedDeclaration")
 public class InputDialogFragment extends BaseDialogFragment<ConfirmationActionHandler> {
 
+  private int inputViewID = 0;
+  private AsyncInputValidation validation = null;
+
   public InputDialogFragment() {
     super(ConfirmationActionHandler.class);
   }
 
-  @Override
-  public void populateDialog(Builder builder, Bundle arguments) {
-    LayoutInflater li = getActivity().getLayoutInflater();
-    builder.setView(callInterceptor(li.inflate(arguments.getInt(DialogConstants.DIALOG_RESOURCE_ID), null)));
-    builder.setPositiveButton(R.string.confirm, this);
-    builder.setNegativeButton(R.string.discard, this);
+  /**
+   * <p>Sets a validator for the text of the given input field. The input is validated on a worker
+   * thread once the user has stopped typing for {@link AsyncInputValidation#DEFAULT_DEBOUNCE_DELAY}
+   * milliseconds, and the confirm-button is only enabled while the latest input is valid.</p>
+   *
+   * <p>Like the {@link ViewInterceptor}, the validator is not retained when the dialog fragment is
+   * re-created, and has to be set again.</p>
+   *
+   * @param inputViewID The ID of the <code>EditText</code> in the dialog's layout.
+   * @param validator The validator for the input, or <code>null</code> to remove it.
+   *
+   * @since Class 1.1
+   * @since API 2.1.0
+   */
+  public void setInputValidator(int inputViewID, InputValidator validator) {
+    setInputValidation(inputViewID, (validator == null) ? null : new AsyncInputValidation(validator));
   }
 
   /**
-   * This method will be invoked when the dialog is canceled.
+   * <p>Sets the validation of the text of the given input field, e.g. one with a custom delay or
+   * executor. The confirm-button is only enabled while the latest input is valid.</p>
    *
-   * @param dialog
-   *          The dialog that was canceled will be passed into the method.
+   * @param inputViewID The ID of the <code>EditText</code> in the dialog's layout.
+   * @param validation The validation of the input, or <code>null</code> to remove it.
+   *
+   * @since Class 1.1
+   * @since API 2.1.0
+   */
+  public void setInputValidation(int inputViewID, AsyncInputValidation validation) {
+    if(this.validation != null) {
+      this.validation.detach();
+    }
+    this.inputViewID = inputViewID;
+    this.validation = validation;
+    attachValidation();
+  }
+
+  /**
+   * {@inheritDoc}
    */
   @Override
-  public void onCancel(DialogInterface dialog) {
-    super.onCancel(dialog);
-    ConfirmationActionHandler actionHandler = controller.getActionHandler();
-    if(actionHandler != null) {
-      actionHandler.onCancel(this);
+  public void onStart() {
+    super.onStart();
+    // the buttons of an AlertDialog only exist once it is shown
+    attachValidation();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected void releaseViews() {
+    super.releaseViews();
+    if(validation != null) {
+      validation.detach();
+    }
+  }
+
+  private void attachValidation() {
+    Dialog dialog = getDialog();
+    if((validation == null) || !(dialog instanceof AlertDialog)) {
+      return;
+    }
+    View input = dialog.findViewById(inputViewID);
+    View confirmButton = ((AlertDialog) dialog).getButton(DialogInterface.BUTTON_POSITIVE);
+    if((input instanceof TextView) && (confirmButton != null)) {
+      validation.attach((TextView) input, confirmButton);
     }
   }
 
+  @Override
+  public void populateDialog(Builder builder, Bundle arguments) {
+    builder.setView(inflateView(arguments.getInt(DialogConstants.DIALOG_RESOURCE_ID)));
+    builder.setPositiveButton(R.string.confirm, this);
+    builder.setNegativeButton(R.string.discard, this);
+  }
+
   /**
    * This method will be invoked when a button in the dialog is clicked.
    *
@@ -112,6 +178,7 @@ public class InputDialogFragment extends BaseDialogFragment<ConfirmationActionHa
    */
   @Override
   public void onClick(DialogInterface dialog, int which) {
+    controller.onUserAction();
     ConfirmationActionHandler actionHandler = controller.getActionHandler();
     if(actionHandler != null) {
       switch(which) {
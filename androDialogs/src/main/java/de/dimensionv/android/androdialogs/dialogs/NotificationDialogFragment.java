@@ -53,26 +53,77 @@ import android.app.Activity;
 import android.app.AlertDialog.Builder;
 import android.content.DialogInterface;
 import android.os.Bundle;
+import android.text.Spannable;
+import android.text.SpannableStringBuilder;
+import android.text.TextUtils;
 import android.text.util.Linkify;
-import android.view.LayoutInflater;
+import android.widget.ListView;
 import android.widget.ScrollView;
 import android.widget.TextView;
 
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import de.dimensionv.android.androdialogs.BaseDialogFragment;
 import de.dimensionv.android.androdialogs.R;
 import de.dimensionv.android.androdialogs.common.DialogConstants;
+import de.dimensionv.android.androdialogs.common.DialogFragmentInterface;
+import de.dimensionv.android.androdialogs.common.DialogScheduler;
+import de.dimensionv.android.androdialogs.common.FrameScheduler;
+import de.dimensionv.android.androdialogs.common.LinkifiedTexts;
+import de.dimensionv.android.androdialogs.common.MergeableDialog;
+import de.dimensionv.android.androdialogs.common.MessageTemplates;
+import de.dimensionv.android.androdialogs.common.ParagraphAdapter;
+import de.dimensionv.android.androdialogs.handlers.CoalescedNotificationActionHandler;
 import de.dimensionv.android.androdialogs.handlers.NotificationActionHandler;
 import de.dimensionv.android.androdialogs.interceptors.ViewInterceptor;
 
 /**
  * <p> A simple notification-dialog with a single, neutral "OK"-close-button.</p>
  *
+ * <p>Notifications that may arrive in bursts can be shown via
+ * {@link #showCoalesced(Activity, int, int, int)}. All notifications with the same notification-ID
+ * are then folded into a single dialog, which displays how many more there were.</p>
+ *
+ * <p>Very long messages, like change logs or licenses, should be shown via
+ * {@link #createLongMessageDialog(int, int, int)} or {@link #createRawMessageDialog(int, int, int)}.
+ * Their text is loaded in the background and shown paragraph by paragraph in a list, so only the
+ * visible paragraphs are laid out.</p>
+ *
  * @author Volkmar Seifert
- * @version 2.0
+ * @version 2.1
  * @since API 1.0.0
  */
 @SuppressWarnings("UnusedDeclaration")
-public class NotificationDialogFragment extends BaseDialogFragment<NotificationActionHandler> {
+public class NotificationDialogFragment extends BaseDialogFragment<NotificationActionHandler> implements MergeableDialog {
+
+  private static final String DIALOG_TAG = NotificationDialogFragment.class.getName() + ".TAG";
+  private static final String OCCURRENCES = "OCCURRENCES";
+  private static final int LINK_MASK = Linkify.EMAIL_ADDRESSES | Linkify.WEB_URLS;
+
+  private final AtomicInteger occurrences = new AtomicInteger(1);
+  private final AtomicBoolean messageUpdateScheduled = new AtomicBoolean(false);
+  private TextView tvMessage = null;
+  private ParagraphAdapter paragraphAdapter = null;
+
+  private final Runnable messageUpdateTask = new Runnable() {
+    @Override
+    public void run() {
+      messageUpdateScheduled.set(false);
+      if(tvMessage != null) {
+        setMessage(tvMessage, getArguments());
+      }
+    }
+  };
+
+  private final LinkifiedTexts.OnLinkifiedListener linkifiedListener = new LinkifiedTexts.OnLinkifiedListener() {
+    @Override
+    public void onLinkified(int resourceID, CharSequence text) {
+      if(tvMessage != null) {
+        setMessage(tvMessage, getArguments());
+      }
+    }
+  };
 
   public NotificationDialogFragment() {
     super(NotificationActionHandler.class);
@@ -93,10 +144,7 @@ public class NotificationDialogFragment extends BaseDialogFragment<NotificationA
   public void onClick(DialogInterface dialog, int which) {
     switch(which) {
       case DialogInterface.BUTTON_NEUTRAL: {
-        NotificationActionHandler actionHandler = controller.getActionHandler();
-        if(actionHandler != null) {
-          actionHandler.onClose(getArguments().getInt(DialogConstants.NOTIFICATION_ID));
-        }
+        callHandler();
         break;
       }
     }
@@ -110,12 +158,115 @@ public class NotificationDialogFragment extends BaseDialogFragment<NotificationA
    */
   @Override
   public void onCancel(DialogInterface dialog) {
+    callHandler();
+  }
+
+  /**
+   * Informs the handler that the dialog was closed, including the number of coalesced
+   * notifications if the handler is interested in it.
+   */
+  private void callHandler() {
+    controller.onUserAction();
     NotificationActionHandler actionHandler = controller.getActionHandler();
-    if(actionHandler != null) {
-      actionHandler.onClose(getArguments().getInt(DialogConstants.NOTIFICATION_ID));
+    if(actionHandler instanceof CoalescedNotificationActionHandler) {
+      ((CoalescedNotificationActionHandler) actionHandler).onClose(getNotificationID(), occurrences.get());
+    } else if(actionHandler != null) {
+      actionHandler.onClose(getNotificationID());
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since Class 2.1
+   * @since API 2.1.0
+   */
+  @Override
+  public void onCreate(Bundle savedInstanceState) {
+    super.onCreate(savedInstanceState);
+    if(savedInstanceState != null) {
+      occurrences.set(savedInstanceState.getInt(OCCURRENCES, occurrences.get()));
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since Class 2.1
+   * @since API 2.1.0
+   */
+  @Override
+  public void onSaveInstanceState(Bundle outState) {
+    super.onSaveInstanceState(outState);
+    outState.putInt(OCCURRENCES, occurrences.get());
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since Class 2.1
+   * @since API 2.1.0
+   */
+  @Override
+  public void onDestroy() {
+    super.onDestroy();
+    if(paragraphAdapter != null) {
+      paragraphAdapter.cancel();
+      paragraphAdapter = null;
     }
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * @since Class 2.1
+   * @since API 2.1.0
+   */
+  @Override
+  protected void releaseViews() {
+    tvMessage = null;
+  }
+
+  /**
+   * Folds the duplicate into this dialog by counting it.
+   *
+   * @param duplicate The duplicate dialog.
+   *
+   * @since Class 2.1
+   * @since API 2.1.0
+   */
+  @Override
+  public void mergeDuplicate(DialogFragmentInterface duplicate) {
+    addOccurrence();
+  }
+
+  /**
+   * <p>Counts another occurrence of this notification. If the dialog is already showing its
+   * message, the message is updated on the next frame. This method may be called from any
+   * thread.</p>
+   *
+   * @since Class 2.1
+   * @since API 2.1.0
+   */
+  public void addOccurrence() {
+    occurrences.incrementAndGet();
+    if(messageUpdateScheduled.compareAndSet(false, true)) {
+      FrameScheduler.getInstance().postOnNextFrame(messageUpdateTask);
+    }
+  }
+
+  /**
+   * Returns how many notifications were folded into this dialog.
+   *
+   * @return The number of notifications, at least 1.
+   *
+   * @since Class 2.1
+   * @since API 2.1.0
+   */
+  public int getOccurrences() {
+    return occurrences.get();
+  }
+
   /**
    * This method returns the notification-id provided to this NotificationDialogFragment.
    *
@@ -140,16 +291,21 @@ public class NotificationDialogFragment extends BaseDialogFragment<NotificationA
       } else if(!hasViewIntercepter) {
         throw new IllegalStateException("Custom layout requires the implementation of a ViewInterceptor.");
       }
-      LayoutInflater li = activity.getLayoutInflater();
-      builder.setView(callInterceptor(li.inflate(arguments.getInt(DialogConstants.DIALOG_RESOURCE_ID), null, false)));
+      builder.setView(inflateView(arguments.getInt(DialogConstants.DIALOG_RESOURCE_ID)));
+
+    } else if(isLongMessage(arguments)) {
+
+      ListView lv = new ListView(activity);
+      lv.setDivider(null);
+      lv.setAdapter(getParagraphAdapter(arguments));
+      builder.setView(lv);
 
     } else {
 
       ScrollView sv = new ScrollView(activity);
-      TextView tv = new TextView(activity);
-      tv.setText(arguments.getInt(DialogConstants.MESSAGE_RESOURCE_ID));
-      Linkify.addLinks(tv, Linkify.EMAIL_ADDRESSES | Linkify.WEB_URLS);
-      sv.addView(tv);
+      tvMessage = new TextView(activity);
+      setMessage(tvMessage, arguments);
+      sv.addView(tvMessage);
       builder.setView(sv);
     }
 
@@ -160,6 +316,80 @@ public class NotificationDialogFragment extends BaseDialogFragment<NotificationA
     builder.setNeutralButton(R.string.OK, this);
   }
 
+  private static boolean isLongMessage(Bundle arguments) {
+    return arguments.getBoolean(DialogConstants.LONG_MESSAGE) || arguments.containsKey(DialogConstants.RAW_RESOURCE_ID);
+  }
+
+  /**
+   * Returns the adapter of the paragraphs of a long message, starting to load them if necessary.
+   * The adapter is kept when the dialog is recreated, so the message is only loaded once.
+   */
+  private ParagraphAdapter getParagraphAdapter(Bundle arguments) {
+    if(paragraphAdapter == null) {
+      paragraphAdapter = new ParagraphAdapter(LINK_MASK);
+      if(arguments.containsKey(DialogConstants.RAW_RESOURCE_ID)) {
+        paragraphAdapter.loadRaw(getResources(), arguments.getInt(DialogConstants.RAW_RESOURCE_ID));
+      } else {
+        paragraphAdapter.loadString(getResources(), arguments.getInt(DialogConstants.MESSAGE_RESOURCE_ID));
+      }
+    }
+    return paragraphAdapter;
+  }
+
+  /**
+   * Sets the message, followed by the number of further notifications, if any, to the given view.
+   * Until the links of the message are detected in the background, the plain message is shown.
+   */
+  private void setMessage(TextView tv, Bundle arguments) {
+    int messageID = arguments.getInt(DialogConstants.MESSAGE_RESOURCE_ID);
+    LinkifiedTexts linkifiedTexts = LinkifiedTexts.getInstance();
+    CharSequence message = linkifiedTexts.getCached(getResources(), messageID, LINK_MASK);
+    if(message == null) {
+      message = getText(messageID);
+      linkifiedTexts.linkify(getResources(), messageID, LINK_MASK, linkifiedListener);
+    }
+
+    int more = occurrences.get() - 1;
+    if(more > 0) {
+      String andMore = MessageTemplates.getInstance().format(getResources(), R.string.andMore, more);
+      // a linkified message has to stay Spannable, so its links remain clickable
+      message = (message instanceof Spannable) ? new SpannableStringBuilder(message).append('\n').append(andMore)
+                                               : TextUtils.concat(message, "\n", andMore);
+    }
+    LinkifiedTexts.setLinkifiedText(tv, message);
+  }
+
+  /**
+   * <p>Shows a notification, unless a notification with the same {@code notificationID} is
+   * already pending or showing. In that case, the notification is folded into the existing dialog,
+   * which counts it, instead of creating a new one.</p>
+   * <p>The dialog is shown via the {@link DialogScheduler}. This method may be called from any
+   * thread.</p>
+   *
+   * @param activity
+   *     The {@link Activity} to show the dialog in.
+   * @param titleID
+   *     The {@link String} resource ID of the title.
+   * @param messageID
+   *     The {@link String} resource ID of the notification-message.
+   * @param notificationID
+   *     The ID of the notification, which also identifies the notifications to be coalesced.
+   *
+   * @since Class 2.1
+   * @since API 2.1.0
+   */
+  public static void showCoalesced(Activity activity, int titleID, int messageID, int notificationID) {
+    DialogScheduler scheduler = DialogScheduler.getInstance();
+    String key = String.valueOf(notificationID);
+    DialogFragmentInterface existing = scheduler.find(DIALOG_TAG, key);
+    if(existing instanceof NotificationDialogFragment) {
+      ((NotificationDialogFragment) existing).addOccurrence();
+    } else {
+      // a concurrently scheduled duplicate is merged by the scheduler
+      scheduler.schedule(activity, createDialog(titleID, messageID, notificationID), key, DialogScheduler.PRIORITY_NORMAL);
+    }
+  }
+
   /**
    * <p>Static method to conveniently initialize a {@code NotificationDialogFragment} object.</p>
    * <p/>
@@ -189,6 +419,64 @@ public class NotificationDialogFragment extends BaseDialogFragment<NotificationA
     return dialogFragment;
   }
 
+  /**
+   * <p>Static method to conveniently initialize a {@code NotificationDialogFragment} object with a
+   * very long message.</p>
+   * <p/>
+   * <p>The message is loaded in the background and split into paragraphs at blank lines, which
+   * are shown in a list. Coalesced notifications are counted, but not displayed in the
+   * message.</p>
+   *
+   * @param titleID
+   *     The {@link String} resource ID of the title.
+   * @param messageID
+   *     The {@link String} resource ID of the notification-message.
+   * @param notificationID
+   *     The ID of the notification. This can be any arbitrary integer number with the purpose to help you
+   *     identify the notification.
+   *
+   * @return The new {@code NotificationDialogFragment} object.
+   *
+   * @since Class 2.1
+   * @since API 2.1.0
+   */
+  public static NotificationDialogFragment createLongMessageDialog(int titleID, int messageID, int notificationID) {
+    NotificationDialogFragment dialogFragment = createDialog(titleID, messageID, notificationID);
+    dialogFragment.getArguments().putBoolean(DialogConstants.LONG_MESSAGE, true);
+    return dialogFragment;
+  }
+
+  /**
+   * <p>Static method to conveniently initialize a {@code NotificationDialogFragment} object with a
+   * very long message from a raw resource, e.g. a license text.</p>
+   * <p/>
+   * <p>The raw resource has to be a UTF-8 encoded text. It is read in the background and split into
+   * paragraphs at blank lines, which are shown in a list as they are read. Coalesced notifications
+   * are counted, but not displayed in the message.</p>
+   *
+   * @param titleID
+   *     The {@link String} resource ID of the title.
+   * @param rawResourceID
+   *     The resource ID of the raw text.
+   * @param notificationID
+   *     The ID of the notification. This can be any arbitrary integer number with the purpose to help you
+   *     identify the notification.
+   *
+   * @return The new {@code NotificationDialogFragment} object.
+   *
+   * @since Class 2.1
+   * @since API 2.1.0
+   */
+  public static NotificationDialogFragment createRawMessageDialog(int titleID, int rawResourceID, int notificationID) {
+    NotificationDialogFragment dialogFragment = new NotificationDialogFragment();
+    Bundle arguments = new Bundle();
+    arguments.putInt(DialogConstants.TITLE_RESOURCE_ID, titleID);
+    arguments.putInt(DialogConstants.RAW_RESOURCE_ID, rawResourceID);
+    arguments.putInt(DialogConstants.NOTIFICATION_ID, notificationID);
+    dialogFragment.setArguments(arguments);
+    return dialogFragment;
+  }
+
   /**
    * <p>Static method to conveniently initialize a {@code NotificationDialogFragment} object.</p>
    * <p/>
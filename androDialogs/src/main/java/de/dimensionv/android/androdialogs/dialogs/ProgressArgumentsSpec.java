@@ -0,0 +1,44 @@
+package de.dimensionv.android.androdialogs.dialogs;
+
+import de.dimensionv.android.androdialogs.annotations.DefaultValue;
+import de.dimensionv.android.androdialogs.annotations.DialogArguments;
+
+/**
+ * <p>The arguments of the {@link ProgressDialogFragment}, from which {@link ProgressArguments} is
+ * generated.</p>
+ *
+ * @author Volkmar Seifert
+ * @version 1.0
+ * @since API 2.1.0
+ */
+@DialogArguments
+interface ProgressArgumentsSpec {
+
+  /**
+   * @return The resource ID of the dialog's layout.
+   */
+  int getDialogResourceID();
+
+  /**
+   * @return The mode of the predefined layouts, or <code>Integer.MIN_VALUE</code> for a custom layout.
+   */
+  @DefaultValue("Integer.MIN_VALUE")
+  int getMode();
+
+  /**
+   * @return The maximum value of the progress bar.
+   */
+  @DefaultValue("ProgressDialogFragment.DEFAULT_MAX")
+  int getMaxValue();
+
+  /**
+   * @return The resource ID of the message, or <code>Integer.MIN_VALUE</code> if none is set.
+   */
+  @DefaultValue("Integer.MIN_VALUE")
+  int getMessageResourceID();
+
+  /**
+   * @return The message, which takes precedence over the message resource ID if it is not empty.
+   */
+  String getSimpleMessage();
+}
@@ -49,20 +49,30 @@
 // //////////////////////////////////////////////////////////////////////////
 package de.dimensionv.android.androdialogs.dialogs;
 
+import android.app.Activity;
 import android.app.AlertDialog.Builder;
 import android.content.DialogInterface;
-import android.os.AsyncTask;
 import android.os.Bundle;
-import android.view.LayoutInflater;
+import android.os.SystemClock;
 import android.view.View;
 import android.widget.ProgressBar;
 import android.widget.TextView;
 
 import de.dimensionv.android.androdialogs.BaseDialogFragment;
 import de.dimensionv.android.androdialogs.R;
-import de.dimensionv.android.androdialogs.common.DialogConstants;
+import de.dimensionv.android.androdialogs.common.FrameScheduler;
 import de.dimensionv.android.androdialogs.handlers.CancelActionHandler;
+import de.dimensionv.android.androdialogs.interceptors.ViewBinder;
+import de.dimensionv.android.androdialogs.interceptors.ViewBindings;
 import de.dimensionv.android.androdialogs.interceptors.ViewInterceptor;
+import de.dimensionv.android.androdialogs.progress.CancellationToken;
+import de.dimensionv.android.androdialogs.progress.CoalescingProgressReporter;
+import de.dimensionv.android.androdialogs.progress.ProgressEstimator;
+import de.dimensionv.android.androdialogs.progress.ProgressReporter;
+import de.dimensionv.android.androdialogs.progress.ProgressTask;
+import de.dimensionv.android.androdialogs.progress.ProgressThrottlePolicy;
+import de.dimensionv.android.androdialogs.progress.RateFormatter;
+import de.dimensionv.android.androdialogs.progress.StagedProgressReporter;
 import de.dimensionv.android.androtools.ui.ViewTools;
 import de.dimensionv.java.libraries.common.exceptions.InvalidIntegerValueException;
 import de.dimensionv.java.libraries.common.utilities.strings.StringUtils;
@@ -71,10 +81,19 @@ import de.dimensionv.java.libraries.common.utilities.strings.StringUtils;
  * <p>Show a message with a progressbar in a dialog. It can be used for indicating that
  * a progress with unknown run-time is currently in progress, or to show the advancing progress of
  * an operation like copying a file or something similar.</p>
- * <p>For the latter case, if used within an {@link AsyncTask}, please note that it will take the
- * ProgressDialog a moment to settle and have all its components initialized. In case of </p>
+ * <p>For the latter case, the progress can be reported from any thread through the
+ * {@link ProgressReporter} returned by {@link #getProgressReporter()}. A {@link ProgressTask}
+ * takes care of showing the dialog, running the work on an {@code Executor} and dismissing the
+ * dialog afterwards.</p>
+ * <p>A finite dialog can also show the rate and the remaining time of the progress below its
+ * message, see {@link #setRateEstimation(RateFormatter)}.</p>
+ * <p>Operations that run in several stages can show their overall progress and the label of the
+ * current stage in a dialog created by {@link #createStagedProgressDialog(boolean)}.</p>
+ * <p>The work behind the dialog can react to the user cancelling the dialog through the
+ * {@link CancellationToken} returned by {@link #getCancellationToken()}, which is cancelled before
+ * the {@link CancelActionHandler} is called.</p>
  * @author Volkmar Seifert
- * @version 1.0
+ * @version 1.1
  * @since API 2.0.0
  */
 @SuppressWarnings("UnusedDeclaration")
@@ -108,12 +127,61 @@ public class ProgressDialogFragment extends BaseDialogFragment<CancelActionHandl
       R.layout.progress_dialog_finite
   };
 
-  private static final String MAX_VALUE = "MAXVALUE";
   private static final String PROGRESS_VALUE = "PROGRESS_VALUE";
 
+  private static final int MODE_UNSET = Integer.MIN_VALUE;
+
+  private static final ViewBinder<ProgressViews> PROGRESS_VIEW_BINDER = new ViewBinder<ProgressViews>() {
+    @Override
+    public ProgressViews bind(View view) {
+      ProgressViews views = new ProgressViews();
+      views.progressBar = ViewTools.findView(view, R.id.progressDialogProgressBar);
+      views.text = ViewTools.findView(view, R.id.progressDialogText);
+      return views;
+    }
+  };
+
   private ProgressBar progressBar = null;
   private TextView text = null;
 
+  // the arguments are kept in typed fields, stored in the argument Bundle as a single entry
+  private ProgressArguments progressArguments = null;
+  // the current progress is kept in a primitive field and only written to a Bundle when saving state
+  private int progressValue = 0;
+
+  private ProgressThrottlePolicy throttlePolicy = null;
+  private int appliedProgressValue = 0;
+  private long appliedProgressTime = 0L;
+  private boolean trailingApplyScheduled = false;
+
+  // applies the latest value the throttle policy rejected, in case no other value followed it
+  private final Runnable trailingApplyTask = new Runnable() {
+    @Override
+    public void run() {
+      trailingApplyScheduled = false;
+      if((progressBar != null) && (progressValue != appliedProgressValue)) {
+        applyProgress(progressValue);
+      }
+    }
+  };
+
+  private final CoalescingProgressReporter progressReporter = new CoalescingProgressReporter(this);
+  private final CancellationToken cancellationToken = new CancellationToken();
+  // run once the dialog is attached again, after it was detached for a configuration change
+  private Runnable attachTask = null;
+
+  private RateFormatter rateFormatter = null;
+  private ProgressEstimator estimator = null;
+  private String estimate = null;
+
+  private final ProgressEstimator.OnEstimateListener estimateListener = new ProgressEstimator.OnEstimateListener() {
+    @Override
+    public void onEstimate(String newEstimate) {
+      estimate = newEstimate;
+      showMessage();
+    }
+  };
+
   /**
    * Default constructor that creates and initializes a new instance of the
    * {@code DisplayDialogFragment}-class.
@@ -137,8 +205,7 @@ public class ProgressDialogFragment extends BaseDialogFragment<CancelActionHandl
     if(getViewInterceptor() == null) {
       setViewInterceptor(this);
     }
-    LayoutInflater li = getActivity().getLayoutInflater();
-    builder.setView(callInterceptor(li.inflate(arguments.getInt(DialogConstants.DIALOG_RESOURCE_ID), null, false)));
+    builder.setView(inflateView(ProgressArguments.from(arguments).getDialogResourceID()));
   }
 
   /**
@@ -155,6 +222,8 @@ public class ProgressDialogFragment extends BaseDialogFragment<CancelActionHandl
     // hand-over the requested cancelability...
     dialogFragment.setCancelable(cancelable);
     // set default arguments
+    dialogFragment.progressArguments = new ProgressArguments();
+    dialogFragment.setArguments(dialogFragment.progressArguments.toBundle());
     return dialogFragment;
   }
 
@@ -198,7 +267,7 @@ public class ProgressDialogFragment extends BaseDialogFragment<CancelActionHandl
    */
   public static ProgressDialogFragment createDialog(int dialogResourceID, boolean cancelable) {
     ProgressDialogFragment dialogFragment = createDialog(cancelable);
-    dialogFragment.getArguments().putInt(DialogConstants.DIALOG_RESOURCE_ID, dialogResourceID);
+    dialogFragment.progressArguments.setDialogResourceID(dialogResourceID);
     return dialogFragment;
   }
 
@@ -294,7 +363,7 @@ public class ProgressDialogFragment extends BaseDialogFragment<CancelActionHandl
    */
   public static ProgressDialogFragment createFiniteProgressDialog(boolean cancelable, int maxValue) {
     ProgressDialogFragment dialogFragment = createDialog(cancelable, PROGRESS_MODE_FINITE);
-    dialogFragment.getArguments().putInt(MAX_VALUE, maxValue);
+    dialogFragment.progressArguments.setMaxValue(maxValue);
     return dialogFragment;
   }
 
@@ -311,7 +380,7 @@ public class ProgressDialogFragment extends BaseDialogFragment<CancelActionHandl
    */
   public static ProgressDialogFragment createFiniteProgressDialog(boolean cancelable, String message) {
     ProgressDialogFragment dialogFragment = createDialog(cancelable, PROGRESS_MODE_FINITE);
-    dialogFragment.getArguments().putString(DialogConstants.SIMPLE_MESSAGE, message);
+    dialogFragment.progressArguments.setSimpleMessage(message);
     return dialogFragment;
   }
 
@@ -329,9 +398,7 @@ public class ProgressDialogFragment extends BaseDialogFragment<CancelActionHandl
    */
   public static ProgressDialogFragment createFiniteProgressDialog(boolean cancelable, int maxValue, int messageID) {
     ProgressDialogFragment dialogFragment = createDialog(cancelable, PROGRESS_MODE_FINITE);
-    Bundle args = dialogFragment.getArguments();
-    args.putInt(DialogConstants.MESSAGE_RESOURCE_ID, messageID);
-    args.putInt(MAX_VALUE, maxValue);
+    dialogFragment.progressArguments.setMessageResourceID(messageID).setMaxValue(maxValue);
     return dialogFragment;
   }
 
@@ -349,12 +416,32 @@ public class ProgressDialogFragment extends BaseDialogFragment<CancelActionHandl
    */
   public static ProgressDialogFragment createFiniteProgressDialog(boolean cancelable, int maxValue, String message) {
     ProgressDialogFragment dialogFragment = createDialog(cancelable, PROGRESS_MODE_FINITE);
-    Bundle args = dialogFragment.getArguments();
-    args.putString(DialogConstants.SIMPLE_MESSAGE, message);
-    args.putInt(MAX_VALUE, maxValue);
+    dialogFragment.progressArguments.setSimpleMessage(message).setMaxValue(maxValue);
     return dialogFragment;
   }
 
+  /**
+   * <p>Creates a {@code ProgressDialogFragment} for an operation that runs in several stages.</p>
+   * <p>The method takes care of proper instantiation and initialization of the dialog fragment,
+   * and then returns it. The progress bar shows the overall progress of all stages, and the
+   * message the label of the current stage, both reported through a
+   * {@link StagedProgressReporter}:</p>
+   * <pre>
+   * ProgressDialogFragment dialogFragment = ProgressDialogFragment.createStagedProgressDialog(true);
+   * StagedProgressReporter progress = new StagedProgressReporter(dialogFragment);
+   * StagedProgressReporter.Stage download = progress.addStage(R.string.downloading, 5);
+   * StagedProgressReporter.Stage index = progress.addStage(R.string.indexing, 2);
+   * </pre>
+   * @param cancelable Flag that defines whether the dialog is cancelable or not.
+   * @return The newly created {@code ProgressDialogFragment}.
+   *
+   * @since Class 1.1
+   * @since API 2.1.0
+   */
+  public static ProgressDialogFragment createStagedProgressDialog(boolean cancelable) {
+    return createFiniteProgressDialog(cancelable, StagedProgressReporter.OVERALL_MAX);
+  }
+
   /**
    * <p>Creates a basic {@code ProgressDialogFragment}, displaying either an indeterminate or a
    * non-indeterminate progress bar with a default layout and, unless overriden, a default message.</p>
@@ -373,15 +460,39 @@ public class ProgressDialogFragment extends BaseDialogFragment<CancelActionHandl
     ProgressDialogFragment dialogFragment = createDialog(cancelable);
     // make the fragment a do-it-yourself viewInterceptor...
     dialogFragment.setViewInterceptor(dialogFragment);
-    // set default arguments
-    Bundle args = new Bundle();
+    dialogFragment.progressArguments.setMode(mode).setDialogResourceID(LAYOUT[mode]);
 
-    args.putInt(DialogConstants.MODE, mode);
-    args.putInt(DialogConstants.DIALOG_RESOURCE_ID, LAYOUT[mode]);
+    return dialogFragment;
+  }
 
-    dialogFragment.setArguments(args);
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Restores the progress state in case the fragment is recreated from a saved state.</p>
+   *
+   * @since Class 1.1
+   * @since API 2.1.0
+   */
+  @Override
+  public void onCreate(Bundle savedInstanceState) {
+    super.onCreate(savedInstanceState);
+    if(savedInstanceState != null) {
+      progressValue = savedInstanceState.getInt(PROGRESS_VALUE, progressValue);
+    }
+  }
 
-    return dialogFragment;
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Writes the current progress state, which is otherwise only held in fields.</p>
+   *
+   * @since Class 1.1
+   * @since API 2.1.0
+   */
+  @Override
+  public void onSaveInstanceState(Bundle outState) {
+    super.onSaveInstanceState(outState);
+    outState.putInt(PROGRESS_VALUE, progressValue);
   }
 
   /**
@@ -389,6 +500,10 @@ public class ProgressDialogFragment extends BaseDialogFragment<CancelActionHandl
    */
   @Override
   public void onClick(DialogInterface dialog, int which) {
+    controller.onUserAction();
+    if(which == DialogInterface.BUTTON_NEGATIVE) {
+      cancellationToken.cancel();
+    }
     CancelActionHandler actionHandler = controller.getActionHandler();
     if(actionHandler != null) {
       switch(which) {
@@ -400,37 +515,117 @@ public class ProgressDialogFragment extends BaseDialogFragment<CancelActionHandl
     }
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Runs the task passed to {@link #runWhenAttached(Runnable)} while the dialog was
+   * detached.</p>
+   *
+   * @since Class 1.1
+   * @since API 2.1.0
+   */
+  @Override
+  public void onAttach(Activity activity) {
+    super.onAttach(activity);
+    if(attachTask != null) {
+      Runnable task = attachTask;
+      attachTask = null;
+      // let the attach complete first
+      FrameScheduler.getInstance().post(task);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void onCancel(DialogInterface dialog) {
+    // the work has to learn about the cancellation before any handler does
+    cancellationToken.cancel();
+    super.onCancel(dialog);
+  }
+
   /**
    * {@inheritDoc}
    */
   @Override
   public void intercept(View view) {
-    progressBar = ViewTools.findView(view, R.id.progressDialogProgressBar);
-    text = ViewTools.findView(view, R.id.progressDialogText);
+    ProgressViews views = ViewBindings.obtain(view, PROGRESS_VIEW_BINDER);
+    progressBar = views.progressBar;
+    text = views.text;
 
-    Bundle args = getArguments();
+    ProgressArguments args = getProgressArguments();
 
     // put progress bar into correct mode if possible...
-    int mode = args.getInt(DialogConstants.MODE, Integer.MIN_VALUE);
-    if(mode != Integer.MIN_VALUE) {
+    int mode = args.getMode();
+    if(mode != MODE_UNSET) {
       boolean indeterminate = mode == PROGRESS_MODE_INFINITE;
       progressBar.setIndeterminate(indeterminate);
       if(!indeterminate) {
-        progressBar.setMax(args.getInt(MAX_VALUE, DEFAULT_MAX));
-        progressBar.setProgress(args.getInt(PROGRESS_VALUE, 0));
+        progressBar.setMax(args.getMaxValue());
+        applyProgress(progressValue);
+        startEstimator();
       }
     }
 
-    // set message to be displayed, if one was provided...
-    String message = args.getString(DialogConstants.SIMPLE_MESSAGE);
-    if(StringUtils.isEmpty(message)) {
+    showMessage();
+  }
+
+  /**
+   * Shows the message, if one was provided, followed by the current estimate, if there is one.
+   */
+  private void showMessage() {
+    if(text == null) {
+      return;
+    }
+    ProgressArguments args = getProgressArguments();
+    String simpleMessage = args.getSimpleMessage();
+    CharSequence message = simpleMessage;
+    if(StringUtils.isEmpty(simpleMessage)) {
       // check for a message resource ID...
-      int msgResID = args.getInt(DialogConstants.MESSAGE_RESOURCE_ID, Integer.MIN_VALUE);
+      int msgResID = args.getMessageResourceID();
       if(msgResID != Integer.MIN_VALUE) {
-        text.setText(msgResID);
+        message = getText(msgResID);
+      } else if(estimate != null) {
+        message = getText(R.string.pleaseWait);
+      } else {
+        // keep the message of the layout
+        return;
       }
-    } else {
-      text.setText(message);
+    }
+    text.setText((estimate != null) ? message + "\n" + estimate : message);
+  }
+
+  /**
+   * Starts estimating the rate and the remaining time, if the estimation is enabled.
+   */
+  private void startEstimator() {
+    if(rateFormatter == null) {
+      return;
+    }
+    if(estimator == null) {
+      // the application's Resources, as the estimator may outlive the Activity of a retained dialog
+      estimator = new ProgressEstimator(getActivity().getApplicationContext().getResources(), rateFormatter);
+    }
+    estimator.update(progressValue, getProgressArguments().getMaxValue());
+    estimator.start(estimateListener);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Releases the progress bar and the message view. The progress and the message set while
+   * there are no views are kept and applied by {@link #intercept(View)} to the next views.</p>
+   *
+   * @since Class 1.1
+   * @since API 2.1.0
+   */
+  @Override
+  protected void releaseViews() {
+    progressBar = null;
+    text = null;
+    if(estimator != null) {
+      estimator.stop();
     }
   }
 
@@ -442,11 +637,25 @@ public class ProgressDialogFragment extends BaseDialogFragment<CancelActionHandl
    * @since API 2.0.0
    */
   private void checkForMode() {
-    if(getArguments().getInt(DialogConstants.MODE, Integer.MIN_VALUE) == Integer.MIN_VALUE) {
+    if(getProgressArguments().getMode() == MODE_UNSET) {
       throw new IllegalStateException("Invalid mode for calling this method.");
     }
   }
 
+  /**
+   * Returns the typed arguments of this dialog, which are also stored in its argument
+   * {@code Bundle}.
+   *
+   * @return The arguments of this dialog.
+   */
+  private ProgressArguments getProgressArguments() {
+    if(progressArguments == null) {
+      // the fragment was re-instantiated by the framework
+      progressArguments = ProgressArguments.from(getArguments());
+    }
+    return progressArguments;
+  }
+
   /**
    * Sets the maximum value on the progress bar. This method can only be used with a predefined
    * layouts. It will throw an IllegalStateException in any other case.
@@ -458,8 +667,14 @@ public class ProgressDialogFragment extends BaseDialogFragment<CancelActionHandl
    */
   public void setMax(int value) {
     checkForMode();
-    getArguments().putInt(MAX_VALUE, value);
-    progressBar.setMax(value);
+    ProgressArguments args = getProgressArguments();
+    args.setMaxValue(value);
+    if(estimator != null) {
+      estimator.update(progressValue, value);
+    }
+    if(progressBar != null) {
+      progressBar.setMax(value);
+    }
   }
 
   /**
@@ -473,8 +688,146 @@ public class ProgressDialogFragment extends BaseDialogFragment<CancelActionHandl
    */
   public void setProgress(int value) {
     checkForMode();
-    getArguments().putInt(PROGRESS_VALUE, value);
+    ProgressArguments args = getProgressArguments();
+    progressValue = value;
+    if(estimator != null) {
+      estimator.update(value, args.getMaxValue());
+    }
+    if(progressBar != null) {
+      if(throttlePolicy == null) {
+        applyProgress(value);
+        return;
+      }
+      long millisSinceApplied = SystemClock.uptimeMillis() - appliedProgressTime;
+      if(throttlePolicy.shouldApply(appliedProgressValue, value, args.getMaxValue(), millisSinceApplied)) {
+        applyProgress(value);
+      } else if(!trailingApplyScheduled) {
+        long delay = throttlePolicy.getTrailingDelay(millisSinceApplied);
+        if(delay >= 0L) {
+          trailingApplyScheduled = true;
+          FrameScheduler.getInstance().postDelayed(trailingApplyTask, delay);
+        }
+      }
+    }
+  }
+
+  /**
+   * Writes the given progress value to the progress bar and remembers it as the last applied one.
+   *
+   * @param value the value to write to the progress bar.
+   */
+  private void applyProgress(int value) {
     progressBar.setProgress(value);
+    appliedProgressValue = value;
+    if(throttlePolicy != null) {
+      appliedProgressTime = SystemClock.uptimeMillis();
+    }
+  }
+
+  /**
+   * <p>Sets the {@link ProgressThrottlePolicy} that decides which progress values are actually
+   * written to the progress bar. Values rejected by the policy are still remembered, but don't
+   * touch the view. The latest rejected value is applied after the policy's trailing delay, if
+   * no other value was applied until then.</p>
+   * <p>By default, no policy is set and every value is applied.</p>
+   *
+   * @param throttlePolicy the policy to use, or {@code null} to apply every value.
+   *
+   * @since Class 1.1
+   * @since API 2.1.0
+   */
+  public void setThrottlePolicy(ProgressThrottlePolicy throttlePolicy) {
+    this.throttlePolicy = throttlePolicy;
+  }
+
+  /**
+   * Returns the {@link ProgressThrottlePolicy} of this dialog.
+   *
+   * @return the policy in use, or {@code null} if none is set.
+   *
+   * @since Class 1.1
+   * @since API 2.1.0
+   */
+  public ProgressThrottlePolicy getThrottlePolicy() {
+    return throttlePolicy;
+  }
+
+  /**
+   * <p>Enables showing the rate and the remaining time of the progress below the message, like
+   * "12.4 MB/s &#183; 2 min left". This only works with the predefined finite layout.</p>
+   * <p>The estimate is computed in the background from the progress values set on this dialog,
+   * as an exponentially weighted moving average, and refreshed about once per second.</p>
+   *
+   * @param rateFormatter the formatter for the rate, e.g. a
+   *     {@link de.dimensionv.android.androdialogs.progress.ByteRateFormatter}, or {@code null} to
+   *     disable the estimation.
+   *
+   * @since Class 1.1
+   * @since API 2.1.0
+   */
+  public void setRateEstimation(RateFormatter rateFormatter) {
+    this.rateFormatter = rateFormatter;
+    if(estimator != null) {
+      estimator.stop();
+      estimator = null;
+    }
+    estimate = null;
+    if((progressBar != null) && (getProgressArguments().getMode() == PROGRESS_MODE_FINITE)) {
+      startEstimator();
+      showMessage();
+    }
+  }
+
+  /**
+   * <p>Returns a {@link ProgressReporter} for this dialog, which may be called from any thread.</p>
+   * <p>Unlike {@link #setProgress(int)} and {@link #setMax(int)}, the reporter does not need to be
+   * called on the main thread. It only keeps the latest reported values and applies them at most
+   * once per display frame, so it is safe to call it very frequently from a worker thread.</p>
+   * <p>The progress of several parallel workers should be summed up by an
+   * {@link de.dimensionv.android.androdialogs.progress.AggregateProgressReporter} instead.</p>
+   *
+   * @return The thread-safe {@code ProgressReporter} of this dialog.
+   *
+   * @since Class 1.1
+   * @since API 2.1.0
+   */
+  public ProgressReporter getProgressReporter() {
+    return progressReporter;
+  }
+
+  /**
+   * <p>Returns the {@link CancellationToken} of this dialog, which is cancelled when the user
+   * cancels the dialog, either by the back-key, by touching outside of the dialog or by its
+   * negative button. The token is cancelled before the {@link CancelActionHandler} is called.</p>
+   * <p>The work behind the dialog may poll the token, or register to be interrupted or to have its
+   * channels closed when it is cancelled.</p>
+   *
+   * @return The {@code CancellationToken} of this dialog.
+   *
+   * @since Class 1.1
+   * @since API 2.1.0
+   */
+  public CancellationToken getCancellationToken() {
+    return cancellationToken;
+  }
+
+  /**
+   * <p>Runs the given task while this dialog is attached to an <code>Activity</code>. If it is
+   * detached at the moment, e.g. in the middle of a configuration change, the task is run on the
+   * main thread once the dialog is attached to the re-created <code>Activity</code>. Only the
+   * latest of these pending tasks is kept. This method has to be called on the main thread.</p>
+   *
+   * @param task The task to run.
+   *
+   * @since Class 1.1
+   * @since API 2.1.0
+   */
+  public void runWhenAttached(Runnable task) {
+    if(getActivity() != null) {
+      task.run();
+    } else {
+      attachTask = task;
+    }
   }
 
   /**
@@ -489,10 +842,9 @@ public class ProgressDialogFragment extends BaseDialogFragment<CancelActionHandl
    */
   public void setMessage(int messageResourceID) {
     checkForMode();
-    Bundle args = getArguments();
-    args.remove(DialogConstants.SIMPLE_MESSAGE);
-    args.putInt(DialogConstants.MESSAGE_RESOURCE_ID, messageResourceID);
-    text.setText(messageResourceID);
+    ProgressArguments args = getProgressArguments();
+    args.setSimpleMessage(null).setMessageResourceID(messageResourceID);
+    showMessage();
   }
 
   /**
@@ -507,9 +859,17 @@ public class ProgressDialogFragment extends BaseDialogFragment<CancelActionHandl
    */
   public void setMessage(String message) {
     checkForMode();
-    Bundle args = getArguments();
-    args.remove(DialogConstants.MESSAGE_RESOURCE_ID);
-    args.putString(DialogConstants.SIMPLE_MESSAGE, message);
-    text.setText(message);
+    ProgressArguments args = getProgressArguments();
+    args.setMessageResourceID(Integer.MIN_VALUE).setSimpleMessage(message);
+    showMessage();
+  }
+
+  /**
+   * Holder for the views of the predefined progress layouts, which are looked up only once per
+   * inflated layout.
+   */
+  private static class ProgressViews {
+    ProgressBar progressBar;
+    TextView text;
   }
 }
@@ -0,0 +1,23 @@
+package de.dimensionv.android.androdialogs.handlers;
+
+/**
+ * <p>The <code>ActionHandler</code>-interface for Date/Time dialogs that delivers the selection as
+ * epoch milliseconds instead of a <code>Calendar</code>.</p>
+ *
+ * <p>Handlers that convert the selection into a type of their own should implement this interface
+ * (or one of {@link DateSetActionHandler} and {@link TimeSetActionHandler}) instead of
+ * {@link CalenderDialogActionHandler}, so no <code>Calendar</code> has to be handed out to
+ * them.</p>
+ *
+ * @author Volkmar Seifert
+ * @version 1.0
+ * @since API 2.1.0
+ */
+public interface CalenderMillisActionHandler extends ActionHandler {
+  /**
+   * Called when the date/time is actually set from the Date/Time picker dialog.
+   *
+   * @param timeInMillis The date/time selected by the user, in milliseconds since the epoch.
+   */
+  public void onCalenderSet(long timeInMillis);
+}
@@ -0,0 +1,23 @@
+package de.dimensionv.android.androdialogs.handlers;
+
+/**
+ * <p>Interface for event-handling of coalesced notification-dialogs.</p>
+ *
+ * <p>When notifications with the same notification-ID are shown through
+ * <code>NotificationDialogFragment.showCoalesced()</code>, only a single dialog is shown. A handler
+ * implementing this interface is informed about how many notifications were folded into it.</p>
+ *
+ * @author Volkmar Seifert
+ * @version 1.0
+ * @since API 2.1.0
+ */
+public interface CoalescedNotificationActionHandler extends NotificationActionHandler {
+  /**
+   * Event-handler method when the user closes a coalesced notification-dialog. It is called
+   * instead of {@link #onClose(int)}.
+   *
+   * @param notificationID The notification-ID of the dialog
+   * @param count The number of notifications that were folded into the dialog, at least 1.
+   */
+  public void onClose(int notificationID, int count);
+}
@@ -0,0 +1,20 @@
+package de.dimensionv.android.androdialogs.handlers;
+
+/**
+ * <p>The <code>ActionHandler</code>-interface for date picker dialogs that delivers the selected
+ * date as plain fields, without creating any <code>Calendar</code>.</p>
+ *
+ * @author Volkmar Seifert
+ * @version 1.0
+ * @since API 2.1.0
+ */
+public interface DateSetActionHandler extends ActionHandler {
+  /**
+   * Called when the date is actually set from the date picker dialog.
+   *
+   * @param year The selected year (e.g. 2014).
+   * @param monthOfYear The selected month (0-11).
+   * @param dayOfMonth The selected day (1-31).
+   */
+  public void onDateSet(int year, int monthOfYear, int dayOfMonth);
+}
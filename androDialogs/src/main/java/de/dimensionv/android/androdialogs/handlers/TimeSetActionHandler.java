@@ -0,0 +1,19 @@
+package de.dimensionv.android.androdialogs.handlers;
+
+/**
+ * <p>The <code>ActionHandler</code>-interface for time picker dialogs that delivers the selected
+ * time as plain fields, without creating any <code>Calendar</code>.</p>
+ *
+ * @author Volkmar Seifert
+ * @version 1.0
+ * @since API 2.1.0
+ */
+public interface TimeSetActionHandler extends ActionHandler {
+  /**
+   * Called when the time is actually set from the time picker dialog.
+   *
+   * @param hourOfDay The selected hour (0-23), independent of whether 24 hour-mode is selected.
+   * @param minute The selected minute (0-59).
+   */
+  public void onTimeSet(int hourOfDay, int minute);
+}
@@ -0,0 +1,39 @@
+package de.dimensionv.android.androdialogs.interceptors;
+
+import android.view.View;
+
+/**
+ * <p>A {@link ViewInterceptor} that resolves the dialog's views only once per inflated hierarchy
+ * and hands them over as a holder object.</p>
+ *
+ * <p>Subclasses implement {@link #bind(View)} to look up their views, and
+ * {@link #intercept(View, Object)} to work with them. The holder object is shared by all
+ * interceptors of the same class that intercept the same view, so it should only reference the
+ * views.</p>
+ *
+ * @param <B> The type of the holder object.
+ *
+ * @author Volkmar Seifert
+ * @version 1.0
+ * @since API 2.1.0
+ */
+public abstract class BindingViewInterceptor<B> implements ViewInterceptor, ViewBinder<B> {
+
+  /**
+   * Obtains the cached binding of the view and forwards to {@link #intercept(View, Object)}.
+   *
+   * @param view The dialog's main-view.
+   */
+  @Override
+  public final void intercept(View view) {
+    intercept(view, ViewBindings.obtain(view, this));
+  }
+
+  /**
+   * Called directly after the dialog's view is inflated, or reused.
+   *
+   * @param view The dialog's main-view.
+   * @param binding The holder object with the resolved views.
+   */
+  public abstract void intercept(View view, B binding);
+}
@@ -0,0 +1,28 @@
+package de.dimensionv.android.androdialogs.interceptors;
+
+import android.view.View;
+
+/**
+ * <p>Resolves the views of an inflated dialog layout into a holder object.</p>
+ *
+ * <p>The holder is cached on the view per class of binder, see {@link ViewBindings}, and handed to
+ * every binder of the same class that obtains the binding of that view. It should therefore only
+ * reference the views, not the binder or any other state of a single show of the dialog.</p>
+ *
+ * @param <B> The type of the holder object.
+ *
+ * @author Volkmar Seifert
+ * @version 1.0
+ * @since API 2.1.0
+ */
+public interface ViewBinder<B> {
+
+  /**
+   * Creates the holder object for the given view hierarchy, typically by looking up all needed
+   * views via <code>findViewById()</code> once.
+   *
+   * @param view The root view of the inflated layout.
+   * @return The holder object.
+   */
+  public B bind(View view);
+}
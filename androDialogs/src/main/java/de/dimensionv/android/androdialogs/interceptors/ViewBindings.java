@@ -0,0 +1,91 @@
+package de.dimensionv.android.androdialogs.interceptors;
+
+import android.os.Build;
+import android.view.View;
+
+import de.dimensionv.android.androdialogs.R;
+
+/**
+ * <p>Caches view bindings on the root view of an inflated layout.</p>
+ *
+ * <p>The holder objects created by {@link ViewBinder}s are stored as a tag of the root view, one
+ * per class of binder. As long as the same view hierarchy is used, e.g. when it is reused from the
+ * {@link de.dimensionv.android.androdialogs.common.ViewPool}, the views are only looked up once,
+ * even if each show of the dialog uses a new binder instance. Only the class of the binder is
+ * kept, so a reused view never keeps the binders of earlier shows alive. A new hierarchy, e.g.
+ * after a configuration change, is bound anew.</p>
+ *
+ * <p>Below API level 14, keyed tags are kept in a static map, where a holder referencing the
+ * views would keep them, and their <code>Activity</code>, alive forever. The bindings are stored
+ * as the plain tag of the root view there instead. If the app uses that tag itself, the views are
+ * bound anew each time.</p>
+ *
+ * @author Volkmar Seifert
+ * @version 1.0
+ * @since API 2.1.0
+ */
+public class ViewBindings {
+
+  private ViewBindings() {
+    // utility class, no instances
+  }
+
+  /**
+   * Returns the binding of the given view hierarchy, creating it with the given binder if none
+   * was created by a binder of the same class yet.
+   *
+   * @param view The root view of the inflated layout.
+   * @param binder The binder creating the holder object if none is cached for its class yet.
+   * @param <B> The type of the holder object.
+   * @return The cached or newly created holder object.
+   */
+  @SuppressWarnings("unchecked")
+  public static <B> B obtain(View view, ViewBinder<B> binder) {
+    Class<?> binderType = binder.getClass();
+    Binding bindings = getBindings(view);
+    for(Binding binding = bindings; binding != null; binding = binding.next) {
+      if(binding.binderType == binderType) {
+        return (B) binding.holder;
+      }
+    }
+    B holder = binder.bind(view);
+    setBindings(view, new Binding(binderType, holder, bindings));
+    return holder;
+  }
+
+  private static Binding getBindings(View view) {
+    if(Build.VERSION.SDK_INT >= Build.VERSION_CODES.ICE_CREAM_SANDWICH) {
+      return (Binding) view.getTag(R.id.viewBindingTag);
+    }
+    Object tag = view.getTag();
+    return (tag instanceof Binding) ? (Binding) tag : null;
+  }
+
+  private static void setBindings(View view, Binding bindings) {
+    if(Build.VERSION.SDK_INT >= Build.VERSION_CODES.ICE_CREAM_SANDWICH) {
+      view.setTag(R.id.viewBindingTag, bindings);
+      return;
+    }
+    Object tag = view.getTag();
+    if((tag == null) || (tag instanceof Binding)) {
+      view.setTag(bindings);
+    }
+  }
+
+  /**
+   * The holder object of a single class of binder, chained to those of the other binder classes of
+   * the same view.
+   */
+  private static final class Binding {
+
+    private final Class<?> binderType;
+    private final Object holder;
+    private final Binding next;
+
+    private Binding(Class<?> binderType, Object holder, Binding next) {
+      this.binderType = binderType;
+      this.holder = holder;
+      this.next = next;
+    }
+  }
+}
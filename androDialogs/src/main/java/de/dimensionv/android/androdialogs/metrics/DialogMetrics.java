@@ -0,0 +1,173 @@
+package de.dimensionv.android.androdialogs.metrics;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * <p>Collects lifecycle latencies and event counts of all dialogs, per dialog class.</p>
+ *
+ * <p>Metrics are disabled by default. While they are disabled, dialogs don't create a
+ * {@link DialogTrace}, and all hooks reduce to a <code>null</code>-check. Enable them early, e.g.
+ * in <code>Application.onCreate()</code>, as only dialogs created afterwards are traced.</p>
+ *
+ * <p>The following latencies are recorded, each one into its own {@link LatencyHistogram}:</p>
+ * <ul>
+ * <li>{@link #LATENCY_ATTACH}: from the creation of the dialog fragment (usually by its factory
+ * method) to its first <code>onAttach()</code>.</li>
+ * <li>{@link #LATENCY_CREATE_DIALOG}: the duration of <code>onCreateDialog()</code>.</li>
+ * <li>{@link #LATENCY_POPULATE}: the duration of <code>populateDialog()</code>.</li>
+ * <li>{@link #LATENCY_INTERCEPT}: the duration of the <code>ViewInterceptor</code>-call.</li>
+ * <li>{@link #LATENCY_FIRST_DRAW}: from the creation of the dialog fragment until its dialog is
+ * drawn for the first time, i.e. the time it takes the dialog to appear.</li>
+ * <li>{@link #LATENCY_USER_ACTION}: from the first draw to the first click or cancellation.</li>
+ * <li>{@link #LATENCY_DISMISS}: from the first draw to the dismissal of the dialog.</li>
+ * <li>{@link #LATENCY_CANCEL_TO_IDLE}: from the cancellation of the work behind a dialog to the
+ * moment its worker has stopped, see {@link #recordCancelLatency(Class, long)}.</li>
+ * </ul>
+ *
+ * <p>The statistics are kept for the lifetime of the process. The app is expected to read them
+ * (e.g. along with <code>Build.MODEL</code>) and report them to wherever it collects such
+ * data.</p>
+ *
+ * @author Volkmar Seifert
+ * @version 1.0
+ * @since API 2.1.0
+ */
+public final class DialogMetrics {
+
+  public static final int LATENCY_ATTACH = 0;
+  public static final int LATENCY_CREATE_DIALOG = 1;
+  public static final int LATENCY_POPULATE = 2;
+  public static final int LATENCY_INTERCEPT = 3;
+  public static final int LATENCY_FIRST_DRAW = 4;
+  public static final int LATENCY_USER_ACTION = 5;
+  public static final int LATENCY_DISMISS = 6;
+  public static final int LATENCY_CANCEL_TO_IDLE = 7;
+  static final int LATENCY_TYPES = 8;
+
+  public static final int COUNT_CREATED = 0;
+  public static final int COUNT_SHOWN = 1;
+  public static final int COUNT_USER_ACTIONS = 2;
+  public static final int COUNT_DISMISSED = 3;
+  static final int COUNT_TYPES = 4;
+
+  private static final String LATENCY_NAMES[] = new String[] {
+      "attach", "createDialog", "populate", "intercept", "firstDraw", "userAction", "dismiss", "cancelToIdle"
+  };
+
+  private static final String COUNT_NAMES[] = new String[] {
+      "created", "shown", "userActions", "dismissed"
+  };
+
+  private static volatile boolean enabled = false;
+
+  private static final HashMap<String, DialogStatistics> statistics = new HashMap<String, DialogStatistics>();
+
+  private DialogMetrics() {
+  }
+
+  /**
+   * Enables or disables collecting metrics. Dialogs that are already traced keep being traced.
+   *
+   * @param enabled <code>true</code> to collect metrics, <code>false</code> otherwise.
+   */
+  public static void setEnabled(boolean enabled) {
+    DialogMetrics.enabled = enabled;
+  }
+
+  /**
+   * Returns whether metrics are collected.
+   *
+   * @return <code>true</code> if metrics are collected, <code>false</code> otherwise.
+   */
+  public static boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Starts tracing a newly created dialog fragment.
+   *
+   * @param dialogClass The class of the dialog fragment.
+   * @return The new trace, or <code>null</code> if metrics are disabled.
+   */
+  public static DialogTrace startTrace(Class<?> dialogClass) {
+    if(!enabled) {
+      return null;
+    }
+    DialogStatistics dialogStatistics = obtainStatistics(dialogClass.getName());
+    dialogStatistics.count(COUNT_CREATED);
+    return new DialogTrace(dialogStatistics);
+  }
+
+  /**
+   * Records the time it took the work behind a dialog to stop after it was cancelled. This method
+   * may be called from any thread.
+   *
+   * @param dialogClass The class of the dialog fragment.
+   * @param nanos The latency in nanoseconds.
+   */
+  public static void recordCancelLatency(Class<?> dialogClass, long nanos) {
+    if(!enabled) {
+      return;
+    }
+    obtainStatistics(dialogClass.getName()).record(LATENCY_CANCEL_TO_IDLE, nanos);
+  }
+
+  /**
+   * Returns the statistics of the given dialog class.
+   *
+   * @param dialogClass The class of the dialog fragment.
+   * @return The statistics, or <code>null</code> if no such dialog was traced so far.
+   */
+  public static synchronized DialogStatistics getStatistics(Class<?> dialogClass) {
+    return statistics.get(dialogClass.getName());
+  }
+
+  /**
+   * Returns the statistics of all dialog classes traced so far.
+   *
+   * @return A new list containing the statistics.
+   */
+  public static synchronized List<DialogStatistics> getAllStatistics() {
+    return new ArrayList<DialogStatistics>(statistics.values());
+  }
+
+  /**
+   * Clears all histograms and counters.
+   */
+  public static synchronized void reset() {
+    for(DialogStatistics dialogStatistics : statistics.values()) {
+      dialogStatistics.reset();
+    }
+  }
+
+  /**
+   * Returns a short name of the given latency, e.g. for logging.
+   *
+   * @param latency One of the <code>LATENCY_*</code> constants.
+   * @return The name of the latency.
+   */
+  public static String getLatencyName(int latency) {
+    return LATENCY_NAMES[latency];
+  }
+
+  /**
+   * Returns a short name of the given counter, e.g. for logging.
+   *
+   * @param counter One of the <code>COUNT_*</code> constants.
+   * @return The name of the counter.
+   */
+  public static String getCountName(int counter) {
+    return COUNT_NAMES[counter];
+  }
+
+  private static synchronized DialogStatistics obtainStatistics(String dialogClassName) {
+    DialogStatistics dialogStatistics = statistics.get(dialogClassName);
+    if(dialogStatistics == null) {
+      dialogStatistics = new DialogStatistics(dialogClassName);
+      statistics.put(dialogClassName, dialogStatistics);
+    }
+    return dialogStatistics;
+  }
+}
@@ -0,0 +1,91 @@
+package de.dimensionv.android.androdialogs.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * <p>The latency histograms and event counters of one dialog class.</p>
+ *
+ * <p>The histograms are indexed by the latency constants of {@link DialogMetrics}, e.g.
+ * {@link DialogMetrics#LATENCY_FIRST_DRAW}, and the counters by its count constants, e.g.
+ * {@link DialogMetrics#COUNT_SHOWN}.</p>
+ *
+ * @author Volkmar Seifert
+ * @version 1.0
+ * @since API 2.1.0
+ */
+public class DialogStatistics {
+
+  private final String dialogClassName;
+  private final LatencyHistogram histograms[] = new LatencyHistogram[DialogMetrics.LATENCY_TYPES];
+  private final AtomicLongArray counters = new AtomicLongArray(DialogMetrics.COUNT_TYPES);
+
+  DialogStatistics(String dialogClassName) {
+    this.dialogClassName = dialogClassName;
+    for(int i = 0; i < histograms.length; i++) {
+      histograms[i] = new LatencyHistogram();
+    }
+  }
+
+  /**
+   * Returns the name of the dialog class these statistics belong to.
+   *
+   * @return The fully qualified name of the dialog class.
+   */
+  public String getDialogClassName() {
+    return dialogClassName;
+  }
+
+  /**
+   * Returns the histogram of the given latency.
+   *
+   * @param latency One of the <code>LATENCY_*</code> constants of {@link DialogMetrics}.
+   * @return The histogram of the latency.
+   */
+  public LatencyHistogram getHistogram(int latency) {
+    return histograms[latency];
+  }
+
+  /**
+   * Returns the value of the given counter.
+   *
+   * @param counter One of the <code>COUNT_*</code> constants of {@link DialogMetrics}.
+   * @return The value of the counter.
+   */
+  public long getCount(int counter) {
+    return counters.get(counter);
+  }
+
+  void record(int latency, long nanos) {
+    histograms[latency].record(nanos);
+  }
+
+  void count(int counter) {
+    counters.incrementAndGet(counter);
+  }
+
+  void reset() {
+    for(LatencyHistogram histogram : histograms) {
+      histogram.reset();
+    }
+    for(int i = 0; i < DialogMetrics.COUNT_TYPES; i++) {
+      counters.set(i, 0L);
+    }
+  }
+
+  /**
+   * Returns a multi-line summary of all counters and latencies, e.g. for logging.
+   *
+   * @return The summary of these statistics.
+   */
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder(dialogClassName);
+    for(int i = 0; i < DialogMetrics.COUNT_TYPES; i++) {
+      sb.append(i == 0 ? ": " : ", ").append(DialogMetrics.getCountName(i)).append('=').append(counters.get(i));
+    }
+    for(int i = 0; i < histograms.length; i++) {
+      sb.append("\n  ").append(DialogMetrics.getLatencyName(i)).append(": ").append(histograms[i]);
+    }
+    return sb.toString();
+  }
+}
@@ -0,0 +1,121 @@
+package de.dimensionv.android.androdialogs.metrics;
+
+/**
+ * <p>The lifecycle timestamps of a single dialog fragment. Each completed latency is recorded into
+ * the {@link DialogStatistics} of the dialog's class right away.</p>
+ *
+ * <p>Traces are created by {@link DialogMetrics#startTrace(Class)} and fed by the
+ * <code>FragmentDialogController</code>. Latencies that are measured from the creation or the first
+ * draw of the dialog are recorded only once per trace, so a retained dialog that is re-created
+ * after a configuration change does not distort them.</p>
+ *
+ * @author Volkmar Seifert
+ * @version 1.0
+ * @since API 2.1.0
+ */
+public final class DialogTrace {
+
+  private final DialogStatistics statistics;
+  private final long createdTime;
+  private long attachedTime = 0L;
+  private long firstDrawTime = 0L;
+  private long userActionTime = 0L;
+  private long dismissedTime = 0L;
+
+  DialogTrace(DialogStatistics statistics) {
+    this.statistics = statistics;
+    createdTime = now();
+  }
+
+  /**
+   * Returns the current timestamp to be handed over to the methods measuring a duration.
+   *
+   * @return The current value of the monotonic clock in nanoseconds.
+   */
+  public static long now() {
+    return System.nanoTime();
+  }
+
+  /**
+   * Called when the dialog fragment is attached to its <code>Activity</code>.
+   */
+  public void onAttach() {
+    if(attachedTime == 0L) {
+      attachedTime = now();
+      statistics.record(DialogMetrics.LATENCY_ATTACH, attachedTime - createdTime);
+    }
+  }
+
+  /**
+   * Called when <code>onCreateDialog()</code> has finished.
+   *
+   * @param startTime The timestamp taken when <code>onCreateDialog()</code> was entered.
+   */
+  public void onDialogCreated(long startTime) {
+    statistics.record(DialogMetrics.LATENCY_CREATE_DIALOG, now() - startTime);
+  }
+
+  /**
+   * Called when <code>populateDialog()</code> has finished.
+   *
+   * @param startTime The timestamp taken before calling <code>populateDialog()</code>.
+   */
+  public void onPopulated(long startTime) {
+    statistics.record(DialogMetrics.LATENCY_POPULATE, now() - startTime);
+  }
+
+  /**
+   * Called when the <code>ViewInterceptor</code> has finished.
+   *
+   * @param startTime The timestamp taken before calling the <code>ViewInterceptor</code>.
+   */
+  public void onIntercepted(long startTime) {
+    statistics.record(DialogMetrics.LATENCY_INTERCEPT, now() - startTime);
+  }
+
+  /**
+   * Returns whether the dialog has been drawn already.
+   *
+   * @return <code>true</code> if the dialog has been drawn, <code>false</code> otherwise.
+   */
+  public boolean hasDrawn() {
+    return firstDrawTime != 0L;
+  }
+
+  /**
+   * Called when the dialog is about to be drawn.
+   */
+  public void onDraw() {
+    if(firstDrawTime == 0L) {
+      firstDrawTime = now();
+      statistics.record(DialogMetrics.LATENCY_FIRST_DRAW, firstDrawTime - createdTime);
+      statistics.count(DialogMetrics.COUNT_SHOWN);
+    }
+  }
+
+  /**
+   * Called when the user clicks a button of the dialog, or cancels it.
+   */
+  public void onUserAction() {
+    if(userActionTime == 0L) {
+      userActionTime = now();
+      statistics.count(DialogMetrics.COUNT_USER_ACTIONS);
+      if(firstDrawTime != 0L) {
+        statistics.record(DialogMetrics.LATENCY_USER_ACTION, userActionTime - firstDrawTime);
+      }
+    }
+  }
+
+  /**
+   * Called when the dialog is dismissed.
+   */
+  public void onDismiss() {
+    if(dismissedTime == 0L) {
+      dismissedTime = now();
+      statistics.count(DialogMetrics.COUNT_DISMISSED);
+      if(firstDrawTime != 0L) {
+        statistics.record(DialogMetrics.LATENCY_DISMISS, dismissedTime - firstDrawTime);
+      }
+    }
+  }
+}
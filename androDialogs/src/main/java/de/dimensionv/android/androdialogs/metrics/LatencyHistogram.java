@@ -0,0 +1,139 @@
+package de.dimensionv.android.androdialogs.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * <p>A lock-free histogram of latencies with power-of-two buckets in microseconds.</p>
+ *
+ * <p>Bucket 0 counts latencies below one microsecond, bucket <code>i</code> counts latencies from
+ * <code>2^(i-1)</code> up to (excluding) <code>2^i</code> microseconds, and the last bucket
+ * counts everything above. Recording a value is a handful of atomic increments, without any
+ * allocation. Percentiles are estimated as the upper bound of the bucket they fall into.</p>
+ *
+ * @author Volkmar Seifert
+ * @version 1.0
+ * @since API 2.1.0
+ */
+public class LatencyHistogram {
+
+  /**
+   * The number of buckets. The last bucket starts at about 17 minutes.
+   */
+  public static final int BUCKET_COUNT = 32;
+
+  private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+  private final AtomicLong count = new AtomicLong();
+  private final AtomicLong totalMicros = new AtomicLong();
+  private final AtomicLong maxMicros = new AtomicLong();
+
+  /**
+   * Records a latency.
+   *
+   * @param nanos The latency in nanoseconds. Negative values are recorded as 0.
+   */
+  public void record(long nanos) {
+    long micros = (nanos > 0L) ? (nanos / 1000L) : 0L;
+    int bucket = Math.min(64 - Long.numberOfLeadingZeros(micros), BUCKET_COUNT - 1);
+    buckets.incrementAndGet(bucket);
+    count.incrementAndGet();
+    totalMicros.addAndGet(micros);
+    long max;
+    while(micros > (max = maxMicros.get())) {
+      if(maxMicros.compareAndSet(max, micros)) {
+        break;
+      }
+    }
+  }
+
+  /**
+   * Returns the number of recorded latencies.
+   *
+   * @return The number of recorded latencies.
+   */
+  public long getCount() {
+    return count.get();
+  }
+
+  /**
+   * Returns the mean of the recorded latencies.
+   *
+   * @return The mean latency in microseconds, or 0 if nothing was recorded.
+   */
+  public long getMeanMicros() {
+    long n = count.get();
+    return (n == 0L) ? 0L : (totalMicros.get() / n);
+  }
+
+  /**
+   * Returns the maximum of the recorded latencies.
+   *
+   * @return The maximum latency in microseconds.
+   */
+  public long getMaxMicros() {
+    return maxMicros.get();
+  }
+
+  /**
+   * Estimates a percentile of the recorded latencies.
+   *
+   * @param percentile The percentile, from 0 to 100.
+   * @return The upper bound of the bucket the percentile falls into in microseconds, but never
+   * more than the maximum recorded latency. 0 if nothing was recorded.
+   */
+  public long getPercentileMicros(double percentile) {
+    long n = count.get();
+    if(n == 0L) {
+      return 0L;
+    }
+    long rank = (long) Math.ceil(n * Math.min(Math.max(percentile, 0.0), 100.0) / 100.0);
+    long cumulated = 0L;
+    for(int i = 0; i < BUCKET_COUNT; i++) {
+      cumulated += buckets.get(i);
+      if(cumulated >= rank) {
+        return Math.min(getBucketUpperBoundMicros(i), maxMicros.get());
+      }
+    }
+    return maxMicros.get();
+  }
+
+  /**
+   * Returns the number of latencies recorded in the given bucket.
+   *
+   * @param bucket The index of the bucket.
+   * @return The number of latencies in the bucket.
+   */
+  public long getBucket(int bucket) {
+    return buckets.get(bucket);
+  }
+
+  /**
+   * Returns the (exclusive) upper bound of the given bucket.
+   *
+   * @param bucket The index of the bucket.
+   * @return The upper bound in microseconds, or <code>Long.MAX_VALUE</code> for the last bucket.
+   */
+  public static long getBucketUpperBoundMicros(int bucket) {
+    return (bucket >= BUCKET_COUNT - 1) ? Long.MAX_VALUE : (1L << bucket);
+  }
+
+  /**
+   * Clears the histogram.
+   */
+  public void reset() {
+    for(int i = 0; i < BUCKET_COUNT; i++) {
+      buckets.set(i, 0L);
+    }
+    count.set(0L);
+    totalMicros.set(0L);
+    maxMicros.set(0L);
+  }
+
+  @Override
+  public String toString() {
+    return String.format("n=%d mean=%.1fms p50=%.1fms p90=%.1fms p99=%.1fms max=%.1fms",
+                         getCount(), getMeanMicros() / 1000.0, getPercentileMicros(50) / 1000.0,
+                         getPercentileMicros(90) / 1000.0, getPercentileMicros(99) / 1000.0,
+                         getMaxMicros() / 1000.0);
+  }
+}
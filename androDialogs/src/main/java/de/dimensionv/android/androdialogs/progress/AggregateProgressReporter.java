@@ -0,0 +1,210 @@
+package de.dimensionv.android.androdialogs.progress;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import de.dimensionv.android.androdialogs.common.FrameScheduler;
+import de.dimensionv.android.androdialogs.dialogs.ProgressDialogFragment;
+
+/**
+ * <p>Sums up the progress of several parallel workers and forwards the total to a
+ * {@link ProgressDialogFragment}.</p>
+ *
+ * <p>The progress is counted in striped counters, each on a cache line of its own, so workers
+ * reporting at the same time neither wait for a lock nor invalidate each other's caches. Workers
+ * of a fixed pool should each use their own {@link Counter}. Workers of a pool with changing
+ * threads, like a fork/join pool, may call {@link #add(long)}, which picks a stripe by thread.</p>
+ *
+ * <pre>
+ * final AggregateProgressReporter progress = new AggregateProgressReporter(dialogFragment, workers);
+ * progress.reportMax(items.length);
+ * for(int i = 0; i &lt; workers; i++) {
+ *   final AggregateProgressReporter.Counter counter = progress.getCounter(i);
+ *   executor.execute(new Runnable() {
+ *     public void run() {
+ *       // ... process an item, then
+ *       counter.increment();
+ *     }
+ *   });
+ * }
+ * </pre>
+ *
+ * <p>The total is sampled at most once per display frame, no matter how often the workers report
+ * in between. Reporting never allocates and never blocks.</p>
+ *
+ * @author Volkmar Seifert
+ * @version 1.0
+ * @since API 2.1.0
+ */
+public class AggregateProgressReporter {
+
+  private static final int UNSET = Integer.MIN_VALUE;
+
+  // 16 longs are 128 bytes, which keeps each stripe off its neighbours' cache lines,
+  // including the adjacent line some CPUs prefetch
+  private static final int STRIDE = 16;
+
+  private final ProgressDialogFragment dialogFragment;
+
+  private final AtomicLongArray cells;
+  private final int stripes;
+  private final AtomicInteger max = new AtomicInteger(UNSET);
+  private final AtomicBoolean scheduled = new AtomicBoolean(false);
+
+  private final Runnable applyTask = new Runnable() {
+    @Override
+    public void run() {
+      // clear the flag first, so progress reported from now on will schedule another frame
+      scheduled.set(false);
+      int maxValue = max.getAndSet(UNSET);
+      if(maxValue != UNSET) {
+        dialogFragment.setMax(maxValue);
+      }
+      long total = sum();
+      dialogFragment.setProgress((total > Integer.MAX_VALUE) ? Integer.MAX_VALUE : (int) total);
+    }
+  };
+
+  /**
+   * Creates a new <code>AggregateProgressReporter</code> with one stripe per available processor.
+   *
+   * @param dialogFragment The <code>ProgressDialogFragment</code> to forward the total to.
+   */
+  public AggregateProgressReporter(ProgressDialogFragment dialogFragment) {
+    this(dialogFragment, Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Creates a new <code>AggregateProgressReporter</code> for the given number of workers.
+   *
+   * @param dialogFragment The <code>ProgressDialogFragment</code> to forward the total to.
+   * @param workers The number of workers, which is the number of stripes.
+   */
+  public AggregateProgressReporter(ProgressDialogFragment dialogFragment, int workers) {
+    if(workers < 1) {
+      throw new IllegalArgumentException("At least one worker is required, but " + workers + " were given.");
+    }
+    this.dialogFragment = dialogFragment;
+    this.stripes = workers;
+    this.cells = new AtomicLongArray(workers * STRIDE);
+  }
+
+  /**
+   * Returns the counter of the given worker. Counters of different workers never contend with each
+   * other, as long as the worker index is lower than the number of workers this reporter was
+   * created for. Higher indexes share the stripes, which is still correct, but slower.
+   *
+   * @param worker The index of the worker, starting at 0.
+   * @return The counter of the worker.
+   */
+  public Counter getCounter(int worker) {
+    if(worker < 0) {
+      throw new IllegalArgumentException("The worker index must not be negative, but was " + worker + ".");
+    }
+    return new Counter(worker % stripes);
+  }
+
+  /**
+   * Adds the given amount of progress on the stripe of the calling thread. This method may be
+   * called from any thread.
+   *
+   * @param delta The amount of progress to add.
+   */
+  public void add(long delta) {
+    add(stripeOf(Thread.currentThread()), delta);
+  }
+
+  /**
+   * Adds one to the progress on the stripe of the calling thread. This method may be called from
+   * any thread.
+   */
+  public void increment() {
+    add(1L);
+  }
+
+  /**
+   * Reports a new maximum value. This method may be called from any thread.
+   *
+   * @param value The new maximum value.
+   */
+  public void reportMax(int value) {
+    max.set(value);
+    scheduleUpdate();
+  }
+
+  /**
+   * Returns the total progress of all workers. The sum is not an atomic snapshot, progress added
+   * while summing up may or may not be included.
+   *
+   * @return The total progress.
+   */
+  public long sum() {
+    long total = 0L;
+    for(int i = 0; i < stripes; i++) {
+      total += cells.get(i * STRIDE);
+    }
+    return total;
+  }
+
+  /**
+   * Resets the progress of all workers to zero. Must not be called while workers are reporting.
+   */
+  public void reset() {
+    for(int i = 0; i < stripes; i++) {
+      cells.set(i * STRIDE, 0L);
+    }
+    scheduleUpdate();
+  }
+
+  private int stripeOf(Thread thread) {
+    long id = thread.getId();
+    // spread the ids, as threads of a pool usually have consecutive ones
+    int hash = (int) (id ^ (id >>> 32));
+    hash ^= (hash >>> 16);
+    hash *= 0x85ebca6b;
+    hash ^= (hash >>> 13);
+    return (hash & Integer.MAX_VALUE) % stripes;
+  }
+
+  private void add(int stripe, long delta) {
+    cells.addAndGet(stripe * STRIDE, delta);
+    scheduleUpdate();
+  }
+
+  private void scheduleUpdate() {
+    // read first, so workers only write to the shared flag once per frame
+    if(!scheduled.get() && scheduled.compareAndSet(false, true)) {
+      FrameScheduler.getInstance().postOnNextFrame(applyTask);
+    }
+  }
+
+  /**
+   * The counter of a single worker. It may only be shared between threads at the cost of
+   * contention.
+   */
+  public final class Counter {
+
+    private final int stripe;
+
+    private Counter(int stripe) {
+      this.stripe = stripe;
+    }
+
+    /**
+     * Adds the given amount of progress.
+     *
+     * @param delta The amount of progress to add.
+     */
+    public void add(long delta) {
+      AggregateProgressReporter.this.add(stripe, delta);
+    }
+
+    /**
+     * Adds one to the progress.
+     */
+    public void increment() {
+      AggregateProgressReporter.this.add(stripe, 1L);
+    }
+  }
+}
@@ -0,0 +1,57 @@
+package de.dimensionv.android.androdialogs.progress;
+
+import java.text.NumberFormat;
+
+/**
+ * <p>A {@link RateFormatter} for progress counted in bytes, or in blocks of bytes. The rate is
+ * formatted with one fraction digit in the largest fitting unit, like "12.4 MB/s".</p>
+ *
+ * @author Volkmar Seifert
+ * @version 1.0
+ * @since API 2.1.0
+ */
+public class ByteRateFormatter implements RateFormatter {
+
+  private static final String UNITS[] = new String[] {"B/s", "KB/s", "MB/s", "GB/s", "TB/s"};
+
+  private final long bytesPerUnit;
+  // the number format follows the default locale of the time the formatter is created
+  private final NumberFormat numberFormat;
+
+  /**
+   * Creates a new <code>ByteRateFormatter</code> for progress counted in bytes.
+   */
+  public ByteRateFormatter() {
+    this(1L);
+  }
+
+  /**
+   * Creates a new <code>ByteRateFormatter</code> for progress counted in blocks of the given size,
+   * e.g. 1024 if the progress is reported in kilobytes.
+   *
+   * @param bytesPerUnit The number of bytes per progress unit.
+   */
+  public ByteRateFormatter(long bytesPerUnit) {
+    if(bytesPerUnit <= 0L) {
+      throw new IllegalArgumentException("The number of bytes per unit must be positive, but was " + bytesPerUnit + ".");
+    }
+    this.bytesPerUnit = bytesPerUnit;
+    numberFormat = NumberFormat.getNumberInstance();
+    numberFormat.setMinimumFractionDigits(1);
+    numberFormat.setMaximumFractionDigits(1);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String formatRate(double unitsPerSecond) {
+    double rate = unitsPerSecond * bytesPerUnit;
+    int unit = 0;
+    while((rate >= 1000d) && (unit < UNITS.length - 1)) {
+      rate /= 1024d;
+      unit++;
+    }
+    return numberFormat.format(rate) + " " + UNITS[unit];
+  }
+}
@@ -0,0 +1,276 @@
+package de.dimensionv.android.androdialogs.progress;
+
+import android.util.Log;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+
+import de.dimensionv.android.androdialogs.common.DialogExecutors;
+
+/**
+ * <p>Signals the cancellation of an operation to the threads working on it.</p>
+ *
+ * <p>Workers may poll {@link #isCancelled()} or {@link #throwIfCancelled()} in their loops. To
+ * stop a worker that is blocked, they can register to be interrupted with
+ * {@link #interruptOnCancel(Thread)}, or have a channel or stream closed with
+ * {@link #closeOnCancel(Closeable)}, which makes blocking NIO operations on it fail right away.
+ * Any other reaction can be registered with {@link #onCancel(Runnable)}.</p>
+ *
+ * <p>The cancellation is usually triggered on the main thread. Interruptions and other reactions
+ * run on the cancelling thread, but channels and streams are closed on the close executor of
+ * {@link DialogExecutors}, as closing them may block or even write to the network. That executor
+ * is never busy with other work, so the close is not delayed by the very work it should stop. No
+ * reaction runs while the token's lock is held, so workers unregistering their reactions never
+ * wait for the cancelling thread.</p>
+ *
+ * <p>A worker that has stopped after the cancellation calls {@link #markIdle()}. The time from the
+ * cancellation until then is available from {@link #getCancelLatencyNanos()}, and
+ * {@link #awaitIdle(long, TimeUnit)} waits for it with a timeout.</p>
+ *
+ * <p>All methods may be called from any thread.</p>
+ *
+ * @author Volkmar Seifert
+ * @version 1.0
+ * @since API 2.1.0
+ */
+public class CancellationToken {
+
+  private static final String TAG = "CancellationToken";
+
+  private volatile boolean cancelled = false;
+  private long cancelTime = 0L;
+  private long idleTime = 0L;
+  private boolean idle = false;
+  private ArrayList<Registration> registrations = null;
+
+  /**
+   * Returns whether the operation was cancelled.
+   *
+   * @return <code>true</code> if the operation was cancelled, <code>false</code> otherwise.
+   */
+  public boolean isCancelled() {
+    return cancelled;
+  }
+
+  /**
+   * Throws a <code>CancellationException</code> if the operation was cancelled.
+   *
+   * @throws CancellationException in case the operation was cancelled.
+   */
+  public void throwIfCancelled() throws CancellationException {
+    if(cancelled) {
+      throw new CancellationException();
+    }
+  }
+
+  /**
+   * <p>Cancels the operation and triggers all registered reactions. Closing channels and streams
+   * is handed over to the close executor, all other reactions are run on the calling thread.
+   * Reactions that fail are logged and don't keep the others from running.</p>
+   *
+   * @return <code>true</code> if this call cancelled the operation, <code>false</code> if it was
+   *         already cancelled.
+   */
+  public boolean cancel() {
+    ArrayList<Registration> cancelledRegistrations;
+    synchronized(this) {
+      if(cancelled) {
+        return false;
+      }
+      cancelTime = System.nanoTime();
+      cancelled = true;
+      cancelledRegistrations = registrations;
+      registrations = null;
+    }
+    if(cancelledRegistrations != null) {
+      for(Registration registration : cancelledRegistrations) {
+        registration.dispatch();
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Registers a reaction to the cancellation, which is run on the cancelling thread. If the
+   * operation is already cancelled, it is run right away on the calling thread. Reactions should
+   * be quick and must not block, as the cancellation is usually triggered on the main thread.
+   *
+   * @param callback The reaction to run.
+   * @return The registration, to be unregistered when the reaction is no longer needed.
+   */
+  public Registration onCancel(Runnable callback) {
+    return register(new Registration(callback, false));
+  }
+
+  private Registration register(Registration registration) {
+    synchronized(this) {
+      if(!cancelled) {
+        if(registrations == null) {
+          registrations = new ArrayList<Registration>(2);
+        }
+        registrations.add(registration);
+        return registration;
+      }
+    }
+    registration.dispatch();
+    return registration;
+  }
+
+  /**
+   * <p>Interrupts the given thread when the operation is cancelled. Interrupting a thread also
+   * closes an <code>InterruptibleChannel</code> it is blocked on.</p>
+   *
+   * <p>The registration has to be unregistered when the thread stops working on the operation,
+   * e.g. in a <code>finally</code>-block, so a pooled thread is not interrupted while working on
+   * something else.</p>
+   *
+   * @param thread The thread to interrupt.
+   * @return The registration.
+   */
+  public Registration interruptOnCancel(final Thread thread) {
+    return onCancel(new Runnable() {
+      @Override
+      public void run() {
+        thread.interrupt();
+      }
+    });
+  }
+
+  /**
+   * Closes the given channel or stream when the operation is cancelled, which makes operations
+   * blocked on it fail, e.g. with an <code>AsynchronousCloseException</code>. It is closed on the
+   * close executor of {@link DialogExecutors}, never on the cancelling thread.
+   *
+   * @param closeable The channel or stream to close.
+   * @return The registration.
+   */
+  public Registration closeOnCancel(final Closeable closeable) {
+    return register(new Registration(new Runnable() {
+      @Override
+      public void run() {
+        try {
+          closeable.close();
+        } catch(IOException ex) {
+          Log.w(TAG, "Closing " + closeable + " on cancellation failed.", ex);
+        }
+      }
+    }, true));
+  }
+
+  /**
+   * Marks the operation as idle after it was cancelled, i.e. the workers have stopped. Calls
+   * before the cancellation, and all calls but the first one, are ignored.
+   *
+   * @return <code>true</code> if this call marked the operation as idle, <code>false</code>
+   *         otherwise.
+   */
+  public synchronized boolean markIdle() {
+    if(!cancelled || idle) {
+      return false;
+    }
+    idleTime = System.nanoTime();
+    idle = true;
+    notifyAll();
+    return true;
+  }
+
+  /**
+   * Returns whether the operation was marked as idle after its cancellation.
+   *
+   * @return <code>true</code> if the operation is idle, <code>false</code> otherwise.
+   */
+  public synchronized boolean isIdle() {
+    return idle;
+  }
+
+  /**
+   * Returns the time from the cancellation until the operation was marked as idle.
+   *
+   * @return The latency in nanoseconds, or -1 if the operation is not idle yet.
+   */
+  public synchronized long getCancelLatencyNanos() {
+    return idle ? idleTime - cancelTime : -1L;
+  }
+
+  /**
+   * Waits until the operation is marked as idle. Must not be called on the main thread.
+   *
+   * @param timeout The maximum time to wait.
+   * @param unit The unit of the timeout.
+   * @return <code>true</code> if the operation is idle, <code>false</code> if the timeout elapsed.
+   * @throws InterruptedException in case the waiting thread was interrupted.
+   */
+  public synchronized boolean awaitIdle(long timeout, TimeUnit unit) throws InterruptedException {
+    long deadline = System.nanoTime() + unit.toNanos(timeout);
+    while(!idle) {
+      long remaining = deadline - System.nanoTime();
+      if(remaining <= 0L) {
+        return false;
+      }
+      TimeUnit.NANOSECONDS.timedWait(this, remaining);
+    }
+    return true;
+  }
+
+  /**
+   * A registered reaction to the cancellation.
+   */
+  public final class Registration {
+
+    private final Runnable callback;
+    private final boolean inBackground;
+    // guarded by this registration, so a reaction never starts after it was unregistered
+    private boolean active = true;
+
+    private Registration(Runnable callback, boolean inBackground) {
+      this.callback = callback;
+      this.inBackground = inBackground;
+    }
+
+    /**
+     * Unregisters the reaction. Once this method returns, the reaction is not run anymore. If it is
+     * running at that moment, this method waits for it to complete.
+     */
+    public void unregister() {
+      synchronized(CancellationToken.this) {
+        if(registrations != null) {
+          registrations.remove(this);
+        }
+      }
+      synchronized(this) {
+        active = false;
+      }
+    }
+
+    private void dispatch() {
+      if(inBackground) {
+        DialogExecutors.getCloseExecutor().execute(new Runnable() {
+          @Override
+          public void run() {
+            Registration.this.run();
+          }
+        });
+      } else {
+        run();
+      }
+    }
+
+    /**
+     * Runs the reaction, unless it was unregistered or has already run.
+     */
+    private synchronized void run() {
+      if(!active) {
+        return;
+      }
+      active = false;
+      try {
+        callback.run();
+      } catch(RuntimeException ex) {
+        Log.w(TAG, "A reaction to the cancellation failed.", ex);
+      }
+    }
+  }
+}
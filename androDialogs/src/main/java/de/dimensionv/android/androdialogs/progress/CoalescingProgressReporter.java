@@ -0,0 +1,79 @@
+package de.dimensionv.android.androdialogs.progress;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import de.dimensionv.android.androdialogs.common.FrameScheduler;
+import de.dimensionv.android.androdialogs.dialogs.ProgressDialogFragment;
+
+/**
+ * <p>A {@link ProgressReporter} that can be called from any thread and forwards the reported
+ * values to a {@link ProgressDialogFragment}.</p>
+ *
+ * <p>Only the latest reported value is kept. It is applied to the dialog at most once per display
+ * frame, no matter how often it was reported in between. Reporting itself never allocates and
+ * never blocks.</p>
+ *
+ * @author Volkmar Seifert
+ * @version 1.0
+ * @since API 2.1.0
+ */
+public class CoalescingProgressReporter implements ProgressReporter {
+
+  private static final int UNSET = Integer.MIN_VALUE;
+
+  private final ProgressDialogFragment dialogFragment;
+
+  private final AtomicInteger progress = new AtomicInteger(UNSET);
+  private final AtomicInteger max = new AtomicInteger(UNSET);
+  private final AtomicBoolean scheduled = new AtomicBoolean(false);
+
+  private final Runnable applyTask = new Runnable() {
+    @Override
+    public void run() {
+      // clear the flag first, so values reported from now on will schedule another frame
+      scheduled.set(false);
+      int maxValue = max.getAndSet(UNSET);
+      if(maxValue != UNSET) {
+        dialogFragment.setMax(maxValue);
+      }
+      int progressValue = progress.getAndSet(UNSET);
+      if(progressValue != UNSET) {
+        dialogFragment.setProgress(progressValue);
+      }
+    }
+  };
+
+  /**
+   * Creates a new <code>CoalescingProgressReporter</code> for the given dialog fragment.
+   *
+   * @param dialogFragment The <code>ProgressDialogFragment</code> to forward the values to.
+   */
+  public CoalescingProgressReporter(ProgressDialogFragment dialogFragment) {
+    this.dialogFragment = dialogFragment;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void reportProgress(int value) {
+    progress.set(value);
+    scheduleUpdate();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void reportMax(int value) {
+    max.set(value);
+    scheduleUpdate();
+  }
+
+  private void scheduleUpdate() {
+    if(scheduled.compareAndSet(false, true)) {
+      FrameScheduler.getInstance().postOnNextFrame(applyTask);
+    }
+  }
+}
@@ -0,0 +1,59 @@
+package de.dimensionv.android.androdialogs.progress;
+
+/**
+ * <p>A {@link ProgressThrottlePolicy} that applies progress values only when they differ from the
+ * last applied value by at least the given delta. Reaching the maximum value is always
+ * applied, and a value that was rejected is applied after a short delay if no other value is
+ * applied until then, so a stalled progress is shown correctly.</p>
+ *
+ * @author Volkmar Seifert
+ * @version 1.0
+ * @since API 2.1.0
+ */
+public class MinDeltaThrottlePolicy implements ProgressThrottlePolicy {
+
+  /**
+   * The default delay after which a rejected value is applied anyway, in milliseconds.
+   */
+  public static final long DEFAULT_TRAILING_DELAY = 250L;
+
+  private final int minDelta;
+  private final long trailingDelay;
+
+  /**
+   * Creates a new <code>MinDeltaThrottlePolicy</code> with the default trailing delay.
+   *
+   * @param minDelta The minimum difference to the last applied value.
+   */
+  public MinDeltaThrottlePolicy(int minDelta) {
+    this(minDelta, DEFAULT_TRAILING_DELAY);
+  }
+
+  /**
+   * Creates a new <code>MinDeltaThrottlePolicy</code>.
+   *
+   * @param minDelta The minimum difference to the last applied value.
+   * @param trailingDelay The delay after which a rejected value is applied anyway, in
+   *                      milliseconds, or a negative value to never apply rejected values.
+   */
+  public MinDeltaThrottlePolicy(int minDelta, long trailingDelay) {
+    this.minDelta = minDelta;
+    this.trailingDelay = trailingDelay;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean shouldApply(int appliedValue, int newValue, int max, long millisSinceApplied) {
+    return (newValue >= max) || (Math.abs((long) newValue - appliedValue) >= minDelta);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public long getTrailingDelay(long millisSinceApplied) {
+    return trailingDelay;
+  }
+}
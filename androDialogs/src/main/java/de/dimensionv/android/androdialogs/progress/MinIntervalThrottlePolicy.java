@@ -0,0 +1,41 @@
+package de.dimensionv.android.androdialogs.progress;
+
+/**
+ * <p>A {@link ProgressThrottlePolicy} that applies progress values at most every given number of
+ * milliseconds. Reaching the maximum value is always applied.</p>
+ *
+ * @author Volkmar Seifert
+ * @version 1.0
+ * @since API 2.1.0
+ */
+public class MinIntervalThrottlePolicy implements ProgressThrottlePolicy {
+
+  private final long minInterval;
+
+  /**
+   * Creates a new <code>MinIntervalThrottlePolicy</code>.
+   *
+   * @param minInterval The minimum interval between two applied values in milliseconds.
+   */
+  public MinIntervalThrottlePolicy(long minInterval) {
+    this.minInterval = minInterval;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean shouldApply(int appliedValue, int newValue, int max, long millisSinceApplied) {
+    return (newValue >= max) || (millisSinceApplied >= minInterval);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>A rejected value is applied once the interval has passed.</p>
+   */
+  @Override
+  public long getTrailingDelay(long millisSinceApplied) {
+    return Math.max(minInterval - millisSinceApplied, 0L);
+  }
+}
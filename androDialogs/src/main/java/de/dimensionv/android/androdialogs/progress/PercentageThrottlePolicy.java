@@ -0,0 +1,33 @@
+package de.dimensionv.android.androdialogs.progress;
+
+/**
+ * <p>A {@link ProgressThrottlePolicy} that applies progress values only when the visible
+ * percentage changes.</p>
+ *
+ * @author Volkmar Seifert
+ * @version 1.0
+ * @since API 2.1.0
+ */
+public class PercentageThrottlePolicy implements ProgressThrottlePolicy {
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean shouldApply(int appliedValue, int newValue, int max, long millisSinceApplied) {
+    if(max <= 0) {
+      return newValue != appliedValue;
+    }
+    return ((newValue * 100L) / max) != ((appliedValue * 100L) / max);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Rejected values never change the visible percentage, so they are never applied.</p>
+   */
+  @Override
+  public long getTrailingDelay(long millisSinceApplied) {
+    return -1L;
+  }
+}
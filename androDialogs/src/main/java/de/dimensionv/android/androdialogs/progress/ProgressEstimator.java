@@ -0,0 +1,194 @@
+package de.dimensionv.android.androdialogs.progress;
+
+import android.content.res.Resources;
+import android.os.SystemClock;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import de.dimensionv.android.androdialogs.R;
+import de.dimensionv.android.androdialogs.common.DialogExecutors;
+import de.dimensionv.android.androdialogs.common.FrameScheduler;
+import de.dimensionv.android.androdialogs.common.MessageTemplates;
+
+/**
+ * <p>Estimates the rate and the remaining time of a progress, and renders them into a text like
+ * "12.4 MB/s &#183; 2 min left".</p>
+ *
+ * <p>The progress is sampled, and the estimate computed and formatted, on the scheduled executor
+ * of {@link DialogExecutors} at a fixed interval. Only a changed estimate is delivered to the main
+ * thread, so the text is refreshed at a bounded rate, no matter how often the progress
+ * changes.</p>
+ *
+ * @author Volkmar Seifert
+ * @version 1.0
+ * @since API 2.1.0
+ */
+public class ProgressEstimator {
+
+  /**
+   * The default interval between two estimates, in milliseconds.
+   */
+  public static final long DEFAULT_REFRESH_INTERVAL = 1000L;
+
+  /**
+   * The default half-life of the measured rates, in milliseconds.
+   */
+  public static final long DEFAULT_HALF_LIFE = 5000L;
+
+  private static final long SECOND = 1000L;
+  private static final long MINUTE = 60L * SECOND;
+  private static final long HOUR = 60L * MINUTE;
+
+  private final Resources resources;
+  private final RateFormatter rateFormatter;
+  private final long refreshInterval;
+  // only used on the scheduled executor
+  private final RateEstimator rateEstimator;
+  private String lastEstimate = null;
+
+  private volatile long progress = 0L;
+  private volatile long max = 0L;
+
+  private OnEstimateListener listener = null;
+  private ScheduledFuture<?> future = null;
+
+  private final Runnable estimateTask = new Runnable() {
+    @Override
+    public void run() {
+      long currentProgress = progress;
+      rateEstimator.addSample(currentProgress, SystemClock.uptimeMillis());
+      final String estimate = formatEstimate(currentProgress, max);
+      if((estimate == null) ? (lastEstimate == null) : estimate.equals(lastEstimate)) {
+        return;
+      }
+      lastEstimate = estimate;
+      FrameScheduler.getInstance().post(new Runnable() {
+        @Override
+        public void run() {
+          // the estimator may have been stopped in the meantime
+          if(listener != null) {
+            listener.onEstimate(estimate);
+          }
+        }
+      });
+    }
+  };
+
+  /**
+   * Creates a new <code>ProgressEstimator</code> with the default refresh interval and half-life.
+   *
+   * @param resources The <code>Resources</code> to load the texts from.
+   * @param rateFormatter The formatter for the rate.
+   */
+  public ProgressEstimator(Resources resources, RateFormatter rateFormatter) {
+    this(resources, rateFormatter, DEFAULT_REFRESH_INTERVAL, DEFAULT_HALF_LIFE);
+  }
+
+  /**
+   * Creates a new <code>ProgressEstimator</code>.
+   *
+   * @param resources The <code>Resources</code> to load the texts from.
+   * @param rateFormatter The formatter for the rate.
+   * @param refreshInterval The interval between two estimates, in milliseconds.
+   * @param halfLife The half-life of the measured rates, in milliseconds.
+   */
+  public ProgressEstimator(Resources resources, RateFormatter rateFormatter, long refreshInterval, long halfLife) {
+    if(refreshInterval <= 0L) {
+      throw new IllegalArgumentException("The refresh interval must be positive, but was " + refreshInterval + ".");
+    }
+    this.resources = resources;
+    this.rateFormatter = rateFormatter;
+    this.refreshInterval = refreshInterval;
+    this.rateEstimator = new RateEstimator(halfLife);
+  }
+
+  /**
+   * Updates the progress and its maximum. This method may be called from any thread, and as often
+   * as the progress changes.
+   *
+   * @param progress The current progress.
+   * @param max The maximum progress.
+   */
+  public void update(long progress, long max) {
+    this.progress = progress;
+    this.max = max;
+  }
+
+  /**
+   * Starts estimating. The listener is called on the main thread whenever the estimate changes.
+   * This method has to be called on the main thread.
+   *
+   * @param listener The listener for the estimates.
+   */
+  public void start(OnEstimateListener listener) {
+    this.listener = listener;
+    if(future == null) {
+      future = DialogExecutors.getScheduledExecutor().scheduleAtFixedRate(estimateTask, 0L, refreshInterval, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  /**
+   * Stops estimating. The samples taken so far are kept, so the estimate continues where it left
+   * off when it is started again. This method has to be called on the main thread.
+   */
+  public void stop() {
+    listener = null;
+    if(future != null) {
+      future.cancel(false);
+      future = null;
+    }
+  }
+
+  /**
+   * Returns whether the estimator is running.
+   *
+   * @return <code>true</code> if the estimator is running, <code>false</code> otherwise.
+   */
+  public boolean isRunning() {
+    return future != null;
+  }
+
+  /**
+   * Formats the current estimate, or returns null if there is none yet.
+   */
+  private String formatEstimate(long currentProgress, long currentMax) {
+    if(!rateEstimator.hasEstimate()) {
+      return null;
+    }
+    String rate = rateFormatter.formatRate(Math.max(rateEstimator.getRate(), 0d));
+    long millis = rateEstimator.estimateMillis(currentMax - currentProgress);
+    if(millis < 0L) {
+      // the progress is stalled, so there's no point in guessing the remaining time
+      return rate;
+    }
+    return MessageTemplates.getInstance().format(resources, R.string.progressEstimate, rate, formatRemaining(millis));
+  }
+
+  private String formatRemaining(long millis) {
+    MessageTemplates templates = MessageTemplates.getInstance();
+    if(millis < MINUTE) {
+      // round up, so the estimate never shows 0 while there's still work left
+      return templates.format(resources, R.string.secondsLeft, (millis + SECOND - 1L) / SECOND);
+    }
+    if(millis < HOUR) {
+      return templates.format(resources, R.string.minutesLeft, (millis + MINUTE - 1L) / MINUTE);
+    }
+    long minutes = (millis + MINUTE - 1L) / MINUTE;
+    return templates.format(resources, R.string.hoursLeft, minutes / 60L, minutes % 60L);
+  }
+
+  /**
+   * Listener to be called when the estimate changes.
+   */
+  public interface OnEstimateListener {
+
+    /**
+     * Called on the main thread with the new estimate.
+     *
+     * @param estimate The estimate, like "12.4 MB/s &#183; 2 min left", or null if there is no
+     *                 estimate yet.
+     */
+    void onEstimate(String estimate);
+  }
+}
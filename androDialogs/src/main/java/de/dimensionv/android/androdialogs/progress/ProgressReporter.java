@@ -0,0 +1,27 @@
+package de.dimensionv.android.androdialogs.progress;
+
+/**
+ * <p>Interface for reporting the progress of an operation to a progress display.</p>
+ *
+ * <p>Implementations must be safe to be called from any thread.</p>
+ *
+ * @author Volkmar Seifert
+ * @version 1.0
+ * @since API 2.1.0
+ */
+public interface ProgressReporter {
+
+  /**
+   * Reports the new progress value.
+   *
+   * @param value The new progress value.
+   */
+  public void reportProgress(int value);
+
+  /**
+   * Reports a new maximum value.
+   *
+   * @param value The new maximum value.
+   */
+  public void reportMax(int value);
+}
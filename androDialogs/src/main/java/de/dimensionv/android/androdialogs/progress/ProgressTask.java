@@ -0,0 +1,233 @@
+package de.dimensionv.android.androdialogs.progress;
+
+import android.app.Activity;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+import de.dimensionv.android.androdialogs.common.DialogFragmentInterface;
+import de.dimensionv.android.androdialogs.common.FrameScheduler;
+import de.dimensionv.android.androdialogs.dialogs.ProgressDialogFragment;
+import de.dimensionv.android.androdialogs.handlers.CancelActionHandler;
+import de.dimensionv.android.androdialogs.metrics.DialogMetrics;
+
+/**
+ * <p>Executes a {@link ProgressWork} on a given <code>Executor</code>, while a
+ * {@link ProgressDialogFragment} displays its progress.</p>
+ *
+ * <p>The task shows the dialog, hands the dialog's thread-safe {@link ProgressReporter} to the
+ * work, and dismisses the dialog once the work is done. The outcome is delivered to the
+ * {@link ProgressTaskListener} on the main thread.</p>
+ *
+ * <p>While the task is running, it registers itself as the dialog's {@link CancelActionHandler}.
+ * Cancelling the dialog cancels the task and interrupts the worker thread through the dialog's
+ * {@link CancellationToken}. Once the worker has stopped, the token is marked as idle, and the time
+ * it took is recorded as {@link DialogMetrics#LATENCY_CANCEL_TO_IDLE}. A handler that was set
+ * on the dialog before is still notified.</p>
+ *
+ * <p>The retained dialog keeps the task across configuration changes, so the task never keeps a
+ * reference to an <code>Activity</code>. If the previous handler or the listener is the
+ * <code>Activity</code>, the task resolves it to the <code>Activity</code> the dialog is currently
+ * attached to. If the work ends while the dialog is detached, e.g. in the middle of a
+ * configuration change, the outcome is delivered once the dialog is attached to the re-created
+ * <code>Activity</code>. The work itself must not reference the <code>Activity</code>
+ * either.</p>
+ *
+ * @param <R> The type of the result.
+ *
+ * @author Volkmar Seifert
+ * @version 1.0
+ * @since API 2.1.0
+ */
+@SuppressWarnings("UnusedDeclaration")
+public class ProgressTask<R> implements CancelActionHandler {
+
+  private final ProgressDialogFragment dialogFragment;
+  private final ProgressWork<R> work;
+  private final ProgressTaskListener<R> listener;
+  private final boolean listenerIsActivity;
+
+  private CancelActionHandler previousHandler = null;
+  private boolean previousHandlerIsActivity = false;
+  private FutureTask<R> future = null;
+
+  /**
+   * Creates a new <code>ProgressTask</code>.
+   *
+   * @param dialogFragment The dialog displaying the progress.
+   * @param work The work to be executed.
+   * @param listener The listener for the outcome of the work, may be null. If it is the
+   *                 <code>Activity</code>, the outcome is delivered to the <code>Activity</code>
+   *                 the dialog is attached to when the work ends.
+   */
+  public ProgressTask(ProgressDialogFragment dialogFragment, ProgressWork<R> work, ProgressTaskListener<R> listener) {
+    this.dialogFragment = dialogFragment;
+    this.work = work;
+    // the Activity may be re-created while the work is running
+    listenerIsActivity = (listener instanceof Activity);
+    this.listener = listenerIsActivity ? null : listener;
+  }
+
+  /**
+   * <p>Shows the dialog in the given <code>Activity</code> and starts the work on the given
+   * <code>Executor</code>. This method has to be called on the main thread, and only once.</p>
+   *
+   * @param activity The <code>Activity</code> to show the dialog in.
+   * @param executor The <code>Executor</code> to run the work on.
+   * @return The <code>Future</code> representing the pending result of the work.
+   * @throws IllegalStateException in case the task was already started.
+   */
+  public Future<R> execute(Activity activity, Executor executor) {
+    if(future != null) {
+      throw new IllegalStateException("The task has already been started.");
+    }
+
+    final ProgressReporter reporter = dialogFragment.getProgressReporter();
+    final CancellationToken token = dialogFragment.getCancellationToken();
+    future = new FutureTask<R>(new Callable<R>() {
+      @Override
+      public R call() throws Exception {
+        CancellationToken.Registration registration = token.interruptOnCancel(Thread.currentThread());
+        try {
+          return work.execute(reporter);
+        } finally {
+          // the pooled thread must not be interrupted once it works on something else
+          registration.unregister();
+        }
+      }
+    }) {
+      @Override
+      public void run() {
+        try {
+          super.run();
+        } finally {
+          // also reached without calling the work, if it was cancelled before it started
+          if(token.markIdle()) {
+            DialogMetrics.recordCancelLatency(dialogFragment.getClass(), token.getCancelLatencyNanos());
+          }
+        }
+      }
+
+      @Override
+      protected void done() {
+        FrameScheduler.getInstance().post(new Runnable() {
+          @Override
+          public void run() {
+            if((dialogFragment.getActivity() == null) && (listenerIsActivity || previousHandlerIsActivity)) {
+              // detached for a configuration change, wait for the re-created Activity
+              dialogFragment.runWhenAttached(this);
+            } else {
+              finish();
+            }
+          }
+        });
+      }
+    };
+
+    previousHandler = dialogFragment.getActionHandler();
+    if(previousHandler instanceof Activity) {
+      // the Activity may be re-created while the work is running
+      previousHandler = null;
+      previousHandlerIsActivity = true;
+    }
+    dialogFragment.setActionHandler(this);
+    dialogFragment.showDialog(activity);
+    executor.execute(future);
+    return future;
+  }
+
+  /**
+   * Cancels the task and the dialog's {@link CancellationToken}, and interrupts the worker thread,
+   * if the work is still running.
+   *
+   * @return <code>false</code> if the task could not be cancelled, typically because it has
+   *         already completed or was not started, <code>true</code> otherwise.
+   */
+  public boolean cancel() {
+    if((future == null) || future.isDone()) {
+      return false;
+    }
+    dialogFragment.getCancellationToken().cancel();
+    return future.cancel(true);
+  }
+
+  /**
+   * Returns whether this task was cancelled before it completed.
+   *
+   * @return <code>true</code> if the task was cancelled, <code>false</code> otherwise.
+   */
+  public boolean isCancelled() {
+    return (future != null) && future.isCancelled();
+  }
+
+  /**
+   * Cancels the task when the user cancels the dialog.
+   *
+   * @param dialog The dialog that was cancelled.
+   */
+  @Override
+  public void onCancel(DialogFragmentInterface dialog) {
+    cancel();
+    CancelActionHandler handler = getPreviousHandler();
+    if(handler != null) {
+      handler.onCancel(dialog);
+    }
+  }
+
+  /**
+   * Returns the handler that was set on the dialog before the task was started, resolving it to
+   * the current <code>Activity</code> if necessary.
+   */
+  private CancelActionHandler getPreviousHandler() {
+    if(!previousHandlerIsActivity) {
+      return previousHandler;
+    }
+    Activity activity = dialogFragment.getActivity();
+    return (activity instanceof CancelActionHandler) ? (CancelActionHandler) activity : null;
+  }
+
+  /**
+   * Returns the listener, resolving it to the current <code>Activity</code> if necessary.
+   */
+  @SuppressWarnings("unchecked")
+  private ProgressTaskListener<R> getListener() {
+    if(!listenerIsActivity) {
+      return listener;
+    }
+    Activity activity = dialogFragment.getActivity();
+    return (activity instanceof ProgressTaskListener) ? (ProgressTaskListener<R>) activity : null;
+  }
+
+  /**
+   * Dismisses the dialog and delivers the outcome. Called on the main thread, while the dialog is
+   * attached to an <code>Activity</code>.
+   */
+  private void finish() {
+    dialogFragment.setActionHandler(getPreviousHandler());
+    dialogFragment.dismissAllowingStateLoss();
+
+    ProgressTaskListener<R> listener = getListener();
+    if(listener == null) {
+      return;
+    }
+    R result;
+    try {
+      result = future.get();
+    } catch(CancellationException ex) {
+      listener.onTaskCancelled();
+      return;
+    } catch(ExecutionException ex) {
+      listener.onTaskFailed(ex.getCause());
+      return;
+    } catch(InterruptedException ex) {
+      // cannot happen, the future is already done
+      listener.onTaskCancelled();
+      return;
+    }
+    listener.onTaskCompleted(result);
+  }
+}
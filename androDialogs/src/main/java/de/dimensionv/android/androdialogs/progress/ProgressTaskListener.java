@@ -0,0 +1,33 @@
+package de.dimensionv.android.androdialogs.progress;
+
+/**
+ * <p>Listener for the outcome of a {@link ProgressTask}. All methods are called on the main thread,
+ * after the progress dialog has been dismissed.</p>
+ *
+ * @param <R> The type of the result.
+ *
+ * @author Volkmar Seifert
+ * @version 1.0
+ * @since API 2.1.0
+ */
+public interface ProgressTaskListener<R> {
+
+  /**
+   * Called when the work completed successfully.
+   *
+   * @param result The result of the work.
+   */
+  public void onTaskCompleted(R result);
+
+  /**
+   * Called when the work threw an exception.
+   *
+   * @param error The exception thrown by the work.
+   */
+  public void onTaskFailed(Throwable error);
+
+  /**
+   * Called when the task was cancelled, either by the user or by calling {@link ProgressTask#cancel()}.
+   */
+  public void onTaskCancelled();
+}
@@ -0,0 +1,38 @@
+package de.dimensionv.android.androdialogs.progress;
+
+/**
+ * <p>A policy deciding whether a new progress value is worth being applied to the progress
+ * display.</p>
+ *
+ * <p>Updates that are rejected by the policy are not written to the view at all. The value
+ * reaching the maximum should always be accepted, so the final state is never lost. As the
+ * progress may also stall or stop below the maximum, the latest rejected value is applied anyway
+ * after the delay returned by {@link #getTrailingDelay(long)}, unless another value was applied
+ * in the meantime.</p>
+ *
+ * @author Volkmar Seifert
+ * @version 1.0
+ * @since API 2.1.0
+ */
+public interface ProgressThrottlePolicy {
+
+  /**
+   * Decides whether the new progress value should be applied to the view.
+   *
+   * @param appliedValue The progress value that was last applied to the view.
+   * @param newValue The new progress value.
+   * @param max The current maximum value.
+   * @param millisSinceApplied The milliseconds passed since the last value was applied.
+   * @return <code>true</code> if the value should be applied, <code>false</code> if it should be dropped.
+   */
+  public boolean shouldApply(int appliedValue, int newValue, int max, long millisSinceApplied);
+
+  /**
+   * Returns the delay after which a rejected value is applied anyway, if no other value was
+   * applied in the meantime.
+   *
+   * @param millisSinceApplied The milliseconds passed since the last value was applied.
+   * @return The delay in milliseconds, or a negative value to never apply rejected values.
+   */
+  public long getTrailingDelay(long millisSinceApplied);
+}
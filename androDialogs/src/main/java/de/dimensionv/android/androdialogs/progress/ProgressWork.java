@@ -0,0 +1,29 @@
+package de.dimensionv.android.androdialogs.progress;
+
+/**
+ * <p>A unit of work that is executed by a {@link ProgressTask} on a worker thread, reporting its
+ * progress through the given {@link ProgressReporter}.</p>
+ *
+ * <p>Implementations should react to interruption of the executing thread, which is how the task
+ * signals that it was cancelled. Work that is not blocked can poll the dialog's
+ * {@link CancellationToken} instead, and work that blocks on streams or channels that don't react
+ * to interruption can have them closed by the token, see
+ * {@link CancellationToken#closeOnCancel(java.io.Closeable)}.</p>
+ *
+ * @param <R> The type of the result.
+ *
+ * @author Volkmar Seifert
+ * @version 1.0
+ * @since API 2.1.0
+ */
+public interface ProgressWork<R> {
+
+  /**
+   * Executes the work. This method is called on a worker thread.
+   *
+   * @param reporter The thread-safe <code>ProgressReporter</code> of the progress dialog.
+   * @return The result of the work.
+   * @throws Exception in case the work failed.
+   */
+  public R execute(ProgressReporter reporter) throws Exception;
+}
@@ -0,0 +1,112 @@
+package de.dimensionv.android.androdialogs.progress;
+
+/**
+ * <p>Estimates the rate of a progress as an exponentially weighted moving average over progress
+ * samples.</p>
+ *
+ * <p>The weight of a sample depends on the time elapsed since the previous one, so samples don't
+ * have to be taken at a fixed interval. A rate measured a half-life ago counts half as much as the
+ * current one.</p>
+ *
+ * <p>This class is not thread-safe.</p>
+ *
+ * @author Volkmar Seifert
+ * @version 1.0
+ * @since API 2.1.0
+ */
+public class RateEstimator {
+
+  private static final double LN2 = Math.log(2d);
+
+  private final double decay;
+
+  private long lastProgress = 0L;
+  private long lastTime = Long.MIN_VALUE;
+  private double rate = Double.NaN;
+
+  /**
+   * Creates a new <code>RateEstimator</code>.
+   *
+   * @param halfLife The time in milliseconds after which a measured rate has lost half of its
+   *                 weight.
+   */
+  public RateEstimator(long halfLife) {
+    if(halfLife <= 0L) {
+      throw new IllegalArgumentException("The half-life must be positive, but was " + halfLife + ".");
+    }
+    decay = LN2 / halfLife;
+  }
+
+  /**
+   * Adds a sample of the progress. A progress lower than the previous one restarts the estimate.
+   *
+   * @param progress The progress at the given time.
+   * @param time The time of the sample in milliseconds, e.g. from <code>SystemClock.uptimeMillis()</code>.
+   */
+  public void addSample(long progress, long time) {
+    if((lastTime == Long.MIN_VALUE) || (progress < lastProgress)) {
+      reset();
+      lastProgress = progress;
+      lastTime = time;
+      return;
+    }
+    long elapsed = time - lastTime;
+    if(elapsed <= 0L) {
+      return;
+    }
+    double currentRate = (progress - lastProgress) * 1000d / elapsed;
+    if(Double.isNaN(rate)) {
+      rate = currentRate;
+    } else {
+      double weight = 1d - Math.exp(-decay * elapsed);
+      rate += weight * (currentRate - rate);
+    }
+    lastProgress = progress;
+    lastTime = time;
+  }
+
+  /**
+   * Returns whether enough samples were added to estimate the rate.
+   *
+   * @return <code>true</code> if there is an estimate, <code>false</code> otherwise.
+   */
+  public boolean hasEstimate() {
+    return !Double.isNaN(rate);
+  }
+
+  /**
+   * Returns the estimated rate.
+   *
+   * @return The rate in progress units per second, or <code>NaN</code> if there is no estimate yet.
+   */
+  public double getRate() {
+    return rate;
+  }
+
+  /**
+   * Estimates the time until the given amount of progress will have been made.
+   *
+   * @param remaining The remaining progress.
+   * @return The estimated time in milliseconds, or -1 if it can't be estimated, e.g. because the
+   *         progress is stalled.
+   */
+  public long estimateMillis(long remaining) {
+    if(remaining <= 0L) {
+      return 0L;
+    }
+    if(!(rate > 0d)) {
+      return -1L;
+    }
+    double millis = remaining * 1000d / rate;
+    return (millis < Long.MAX_VALUE) ? (long) millis : -1L;
+  }
+
+  /**
+   * Discards all samples.
+   */
+  public void reset() {
+    lastProgress = 0L;
+    lastTime = Long.MIN_VALUE;
+    rate = Double.NaN;
+  }
+}
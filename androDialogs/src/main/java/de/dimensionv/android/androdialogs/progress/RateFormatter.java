@@ -0,0 +1,21 @@
+package de.dimensionv.android.androdialogs.progress;
+
+/**
+ * <p>Interface for formatting the rate of a progress, e.g. as "12.4 MB/s".</p>
+ *
+ * <p>The formatter is called on a background thread, but only ever on one at a time.</p>
+ *
+ * @author Volkmar Seifert
+ * @version 1.0
+ * @since API 2.1.0
+ */
+public interface RateFormatter {
+
+  /**
+   * Formats the given rate.
+   *
+   * @param unitsPerSecond The rate in progress units per second.
+   * @return The formatted rate.
+   */
+  public String formatRate(double unitsPerSecond);
+}
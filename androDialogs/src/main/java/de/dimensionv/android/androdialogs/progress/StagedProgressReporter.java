@@ -0,0 +1,213 @@
+package de.dimensionv.android.androdialogs.progress;
+
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import de.dimensionv.android.androdialogs.common.FrameScheduler;
+import de.dimensionv.android.androdialogs.dialogs.ProgressDialogFragment;
+
+/**
+ * <p>Tracks the progress of an operation that runs in several stages, like download, decompress,
+ * index and store, and forwards it to a {@link ProgressDialogFragment}.</p>
+ *
+ * <p>Each stage is declared with a label and a weight relative to the other stages, and reports
+ * its own progress through the {@link Stage} returned by {@link #addStage(int, double)}, from any
+ * thread. The dialog's bar shows the overall progress, i.e. the weighted sum of the progress of
+ * all stages, and its message shows the label of the first stage that is not complete yet.</p>
+ *
+ * <pre>
+ * StagedProgressReporter progress = new StagedProgressReporter(dialogFragment);
+ * StagedProgressReporter.Stage download = progress.addStage(R.string.downloading, 5);
+ * StagedProgressReporter.Stage store = progress.addStage(R.string.storing, 1);
+ * </pre>
+ *
+ * <p>All stages have to be added before the first one reports. The overall progress is applied to
+ * the dialog at most once per display frame, no matter how often the stages report in between.
+ * Reporting never allocates and never blocks.</p>
+ *
+ * @author Volkmar Seifert
+ * @version 1.0
+ * @since API 2.1.0
+ */
+public class StagedProgressReporter {
+
+  /**
+   * The maximum value of the dialog's bar, which shows the overall progress.
+   */
+  public static final int OVERALL_MAX = 10000;
+
+  private final ProgressDialogFragment dialogFragment;
+  private final ArrayList<Stage> stages = new ArrayList<Stage>();
+  private double totalWeight = 0d;
+
+  private final AtomicBoolean scheduled = new AtomicBoolean(false);
+  // only used on the main thread
+  private boolean maxApplied = false;
+  private Stage shownStage = null;
+
+  private final Runnable applyTask = new Runnable() {
+    @Override
+    public void run() {
+      // clear the flag first, so progress reported from now on will schedule another frame
+      scheduled.set(false);
+      if(!maxApplied) {
+        dialogFragment.setMax(OVERALL_MAX);
+        maxApplied = true;
+      }
+
+      double overall = 0d;
+      Stage currentStage = null;
+      for(int i = 0; i < stages.size(); i++) {
+        Stage stage = stages.get(i);
+        double fraction = stage.getFraction();
+        overall += stage.weight * fraction;
+        if((currentStage == null) && (fraction < 1d)) {
+          currentStage = stage;
+        }
+      }
+      dialogFragment.setProgress((int) (overall / totalWeight * OVERALL_MAX));
+
+      // when all stages are complete, the label of the last one is kept
+      if((currentStage != null) && (currentStage != shownStage)) {
+        shownStage = currentStage;
+        if(currentStage.label != null) {
+          dialogFragment.setMessage(currentStage.label);
+        } else {
+          dialogFragment.setMessage(currentStage.labelResourceID);
+        }
+      }
+    }
+  };
+
+  /**
+   * Creates a new <code>StagedProgressReporter</code> without any stages for the given dialog
+   * fragment, which has to be a finite progress dialog.
+   *
+   * @param dialogFragment The <code>ProgressDialogFragment</code> to forward the progress to.
+   */
+  public StagedProgressReporter(ProgressDialogFragment dialogFragment) {
+    this.dialogFragment = dialogFragment;
+  }
+
+  /**
+   * Adds a stage with the given label.
+   *
+   * @param labelResourceID The string resource ID of the label, shown while the stage is running.
+   * @param weight The weight of the stage, relative to the other stages, e.g. its expected duration.
+   * @return The stage, to report its progress.
+   */
+  public Stage addStage(int labelResourceID, double weight) {
+    return addStage(new Stage(null, labelResourceID, weight));
+  }
+
+  /**
+   * Adds a stage with the given label.
+   *
+   * @param label The label, shown while the stage is running.
+   * @param weight The weight of the stage, relative to the other stages, e.g. its expected duration.
+   * @return The stage, to report its progress.
+   */
+  public Stage addStage(String label, double weight) {
+    return addStage(new Stage(label, Integer.MIN_VALUE, weight));
+  }
+
+  private Stage addStage(Stage stage) {
+    if(!(stage.weight > 0d)) {
+      throw new IllegalArgumentException("The weight of a stage must be positive, but was " + stage.weight + ".");
+    }
+    stages.add(stage);
+    totalWeight += stage.weight;
+    return stage;
+  }
+
+  /**
+   * Returns the number of stages.
+   *
+   * @return The number of stages.
+   */
+  public int getStageCount() {
+    return stages.size();
+  }
+
+  /**
+   * Returns the stage at the given index.
+   *
+   * @param index The index of the stage, in the order the stages were added.
+   * @return The stage.
+   */
+  public Stage getStage(int index) {
+    return stages.get(index);
+  }
+
+  private void scheduleUpdate() {
+    // read first, so the stages only write to the shared flag once per frame
+    if(!scheduled.get() && scheduled.compareAndSet(false, true)) {
+      FrameScheduler.getInstance().postOnNextFrame(applyTask);
+    }
+  }
+
+  /**
+   * A single stage, which reports its progress from any thread. Its maximum value is
+   * {@link ProgressDialogFragment#DEFAULT_MAX} unless reported otherwise.
+   */
+  public final class Stage implements ProgressReporter {
+
+    private final String label;
+    private final int labelResourceID;
+    private final double weight;
+
+    private final AtomicInteger progress = new AtomicInteger(0);
+    private final AtomicInteger max = new AtomicInteger(ProgressDialogFragment.DEFAULT_MAX);
+    private volatile boolean complete = false;
+
+    private Stage(String label, int labelResourceID, double weight) {
+      this.label = label;
+      this.labelResourceID = labelResourceID;
+      this.weight = weight;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void reportProgress(int value) {
+      progress.set(value);
+      scheduleUpdate();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void reportMax(int value) {
+      max.set(value);
+      scheduleUpdate();
+    }
+
+    /**
+     * Marks the stage as complete, independent of the reported progress.
+     */
+    public void complete() {
+      complete = true;
+      scheduleUpdate();
+    }
+
+    /**
+     * Returns the share of this stage that is done.
+     *
+     * @return The share that is done, between 0 and 1.
+     */
+    public double getFraction() {
+      if(complete) {
+        return 1d;
+      }
+      int maxValue = max.get();
+      if(maxValue <= 0) {
+        return 0d;
+      }
+      double fraction = (double) progress.get() / maxValue;
+      return (fraction < 0d) ? 0d : Math.min(fraction, 1d);
+    }
+  }
+}
@@ -0,0 +1,215 @@
+package de.dimensionv.android.androdialogs.validation;
+
+import android.text.Editable;
+import android.text.TextWatcher;
+import android.util.Log;
+import android.view.View;
+import android.widget.TextView;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import de.dimensionv.android.androdialogs.common.DialogExecutors;
+import de.dimensionv.android.androdialogs.common.FrameScheduler;
+
+/**
+ * <p>Validates the text of an input field with an {@link InputValidator} in the background, and
+ * enables a view, usually the positive button of the dialog, only while the latest input is
+ * valid.</p>
+ *
+ * <p>Each change of the input disables the view and restarts a delay on the scheduled executor of
+ * {@link DialogExecutors}. Only once the input has not changed for the whole delay, the validator
+ * is run on the validation <code>Executor</code>. Every input gets a generation number, and results
+ * of an older generation than the latest one are discarded, so a slow check can never enable the
+ * view for input that has changed since. The main thread never waits for a check.</p>
+ *
+ * @author Volkmar Seifert
+ * @version 1.0
+ * @since API 2.1.0
+ */
+public class AsyncInputValidation implements TextWatcher {
+
+  /**
+   * The default delay after the last change of the input before it is validated, in milliseconds.
+   */
+  public static final long DEFAULT_DEBOUNCE_DELAY = 300L;
+
+  private static final String TAG = "AsyncInputValidation";
+
+  private final InputValidator validator;
+  private final long debounceDelay;
+  private final Executor executor;
+
+  private final AtomicInteger generation = new AtomicInteger(0);
+
+  // only used on the main thread
+  private TextView input = null;
+  private View target = null;
+  private ScheduledFuture<?> pendingCheck = null;
+  private boolean valid = false;
+
+  /**
+   * Creates a new <code>AsyncInputValidation</code> with the default delay, which runs the
+   * validator on the validation executor of {@link DialogExecutors}.
+   *
+   * @param validator The validator for the input.
+   */
+  public AsyncInputValidation(InputValidator validator) {
+    this(validator, DEFAULT_DEBOUNCE_DELAY, DialogExecutors.getValidationExecutor());
+  }
+
+  /**
+   * Creates a new <code>AsyncInputValidation</code>.
+   *
+   * @param validator The validator for the input.
+   * @param debounceDelay The delay after the last change of the input before it is validated, in
+   *                      milliseconds.
+   * @param executor The <code>Executor</code> to run the validator on.
+   */
+  public AsyncInputValidation(InputValidator validator, long debounceDelay, Executor executor) {
+    if(debounceDelay < 0L) {
+      throw new IllegalArgumentException("The debounce delay must not be negative, but was " + debounceDelay + ".");
+    }
+    this.validator = validator;
+    this.debounceDelay = debounceDelay;
+    this.executor = executor;
+  }
+
+  /**
+   * Starts validating the given input field, and validates its current text right away. Attaching
+   * to the input field that is already attached has no effect. This method has to be called on
+   * the main thread.
+   *
+   * @param input The input field to validate.
+   * @param target The view to enable while the input is valid, usually the positive button.
+   */
+  public void attach(TextView input, View target) {
+    if((this.input == input) && (this.target == target)) {
+      return;
+    }
+    detach();
+    this.input = input;
+    this.target = target;
+    input.addTextChangedListener(this);
+    CharSequence text = input.getText();
+    validate((text == null) ? "" : text.toString(), 0L);
+  }
+
+  /**
+   * Stops validating and discards the results of pending checks. This method has to be called on
+   * the main thread.
+   */
+  public void detach() {
+    generation.incrementAndGet();
+    cancelPendingCheck();
+    if(input != null) {
+      input.removeTextChangedListener(this);
+      input = null;
+    }
+    target = null;
+    valid = false;
+  }
+
+  /**
+   * Returns whether the latest input was checked and found valid. This method has to be called on
+   * the main thread.
+   *
+   * @return <code>true</code> if the latest input is valid, <code>false</code> while it is invalid
+   *         or not checked yet.
+   */
+  public boolean isValid() {
+    return valid;
+  }
+
+  @Override
+  public void beforeTextChanged(CharSequence s, int start, int count, int after) {
+  }
+
+  @Override
+  public void onTextChanged(CharSequence s, int start, int before, int count) {
+  }
+
+  @Override
+  public void afterTextChanged(Editable s) {
+    validate(s.toString(), debounceDelay);
+  }
+
+  private void validate(String text, long delay) {
+    int checkGeneration = generation.incrementAndGet();
+    cancelPendingCheck();
+    applyResult(false);
+    pendingCheck = DialogExecutors.getScheduledExecutor().schedule(new Check(checkGeneration, text), delay, TimeUnit.MILLISECONDS);
+  }
+
+  private void cancelPendingCheck() {
+    if(pendingCheck != null) {
+      pendingCheck.cancel(false);
+      pendingCheck = null;
+    }
+  }
+
+  private void applyResult(boolean result) {
+    valid = result;
+    if(target != null) {
+      target.setEnabled(result);
+    }
+  }
+
+  private boolean isStale(int checkGeneration) {
+    return checkGeneration != generation.get();
+  }
+
+  /**
+   * Hands the input over to the validation executor once the delay has passed, runs the validator
+   * there, and posts its result to the main thread. Each step is skipped once newer input exists.
+   */
+  private final class Check implements Runnable {
+
+    private final int checkGeneration;
+    private final String text;
+    private boolean delayed = true;
+
+    private Check(int checkGeneration, String text) {
+      this.checkGeneration = checkGeneration;
+      this.text = text;
+    }
+
+    @Override
+    public void run() {
+      if(isStale(checkGeneration)) {
+        return;
+      }
+      if(delayed) {
+        // leave the scheduled executor to the timers, the check itself may block
+        delayed = false;
+        executor.execute(this);
+        return;
+      }
+
+      boolean result;
+      try {
+        result = validator.isValid(text);
+      } catch(Exception ex) {
+        Log.w(TAG, "Validating the input failed.", ex);
+        result = false;
+      }
+      if(isStale(checkGeneration)) {
+        return;
+      }
+
+      final boolean checkResult = result;
+      FrameScheduler.getInstance().post(new Runnable() {
+        @Override
+        public void run() {
+          // the input may have changed while the result was on its way
+          if(!isStale(checkGeneration)) {
+            pendingCheck = null;
+            applyResult(checkResult);
+          }
+        }
+      });
+    }
+  }
+}
@@ -0,0 +1,24 @@
+package de.dimensionv.android.androdialogs.validation;
+
+/**
+ * <p>Checks the text entered into an input dialog, e.g. whether a name is still unused.</p>
+ *
+ * <p>The check is run on a worker thread, so it may block, e.g. on a database query. It is not run
+ * for every keystroke, but only once the input has settled, and its result is ignored if the input
+ * has changed in the meantime, see {@link AsyncInputValidation}.</p>
+ *
+ * @author Volkmar Seifert
+ * @version 1.0
+ * @since API 2.1.0
+ */
+public interface InputValidator {
+
+  /**
+   * Checks the given input. This method is called on a worker thread.
+   *
+   * @param input The text entered by the user.
+   * @return <code>true</code> if the input is valid, <code>false</code> otherwise.
+   * @throws Exception in case the check failed, which counts as invalid input.
+   */
+  public boolean isValid(String input) throws Exception;
+}
@@ -58,6 +58,7 @@ import android.view.View;
 
 import de.dimensionv.android.androdialogs.common.DialogFragmentInterface;
 import de.dimensionv.android.androdialogs.common.FragmentDialogController;
+import de.dimensionv.android.androdialogs.common.OnDialogDestroyedListener;
 import de.dimensionv.android.androdialogs.handlers.ActionHandler;
 import de.dimensionv.android.androdialogs.handlers.CancelActionHandler;
 import de.dimensionv.android.androdialogs.interceptors.ViewInterceptor;
@@ -134,9 +135,74 @@ public abstract class BaseDialogFragment<T extends ActionHandler> extends Dialog
     controller.onAttach(activity);
   }
 
+  /**
+   * <p>Called when this dialog fragment is detached from its <code>Activity</code>, e.g. for a
+   * configuration change. Releases the <code>Activity</code> if it is the
+   * <code>ActionHandler</code>, so this retained dialog fragment does not keep it alive.</p>
+   */
+  @Override
+  public void onDetach() {
+    super.onDetach();
+    controller.onDetach();
+  }
+
+  /**
+   * <p>Called when the dialog is shown. Watches for its first draw, while
+   * {@link de.dimensionv.android.androdialogs.metrics.DialogMetrics} are enabled.</p>
+   */
+  @Override
+  public void onStart() {
+    super.onStart();
+    controller.onStart();
+  }
+
+  /**
+   * <p>Called when the dialog and its views are destroyed, which also happens when this retained
+   * dialog fragment is about to be attached to a re-created <code>Activity</code>. Calls
+   * {@link #releaseViews()} while the views still exist.</p>
+   */
+  @Override
+  public void onDestroyView() {
+    releaseViews();
+    super.onDestroyView();
+  }
+
+  /**
+   * <p>Releases all references to views of the dialog. Called by {@link #onDestroyView()}.</p>
+   *
+   * <p>As this dialog fragment is retained, any view it keeps beyond this point would keep the
+   * destroyed <code>Activity</code> alive. Subclasses keeping views in fields must override this
+   * method and clear them, after taking over any state from the views that should survive.
+   * Updates arriving while there are no views should be kept in fields and applied when the
+   * views of the next dialog are bound.</p>
+   */
+  protected void releaseViews() {
+  }
+
+  /**
+   * <p>Called when this dialog fragment is destroyed. Notifies the
+   * <code>OnDialogDestroyedListener</code>, if one is set.</p>
+   */
+  @Override
+  public void onDestroy() {
+    super.onDestroy();
+    controller.onDestroy();
+  }
+
+  /**
+   * <p>Called when the dialog is dismissed. Returns the content view to the <code>ViewPool</code>,
+   * if view pooling is enabled.</p>
+   */
+  @Override
+  public void onDismiss(DialogInterface dialog) {
+    super.onDismiss(dialog);
+    controller.onDismiss();
+  }
+
   @Override
   public void onCancel(DialogInterface dialog) {
     super.onCancel(dialog);
+    controller.onUserAction();
     ActionHandler actionHandler = controller.getActionHandler();
     if((actionHandler != null) && (actionHandler instanceof CancelActionHandler)) {
       ((CancelActionHandler) actionHandler).onCancel(this);
@@ -156,6 +222,9 @@ public abstract class BaseDialogFragment<T extends ActionHandler> extends Dialog
   public abstract void populateDialog(Builder builder, Bundle arguments);
 
   /**
+   * Sets the <code>ActionHandler</code> explicitly. An <code>Activity</code> set as handler is
+   * released when this dialog fragment is detached from it.
+   *
    * @param handler
    *          the handler to set
    */
@@ -163,6 +232,15 @@ public abstract class BaseDialogFragment<T extends ActionHandler> extends Dialog
     controller.setActionHandler(handler);
   }
 
+  /**
+   * Returns the currently set <code>ActionHandler</code>.
+   *
+   * @return The <code>ActionHandler</code>, or null if none was set.
+   */
+  public T getActionHandler() {
+    return controller.getActionHandler();
+  }
+
   /**
    * Returns the registerHandler flag, which is used to determine whether an <code>ActionHandler</code>
    * should be registered or not.
@@ -214,12 +292,81 @@ public abstract class BaseDialogFragment<T extends ActionHandler> extends Dialog
     return controller.callInterceptor(view);
   }
 
+  /**
+   * <p>Inflates the given layout as this dialog's content and calls the
+   * <code>ViewInterceptor</code> for it, possibly asynchronously.</p>
+   *
+   * @param layoutResourceID The resource ID of the layout to inflate.
+   * @return The view to be set as the dialog's content.
+   *
+   * @see #setAsyncInflation(boolean)
+   */
+  protected View inflateView(int layoutResourceID) {
+    return controller.inflateView(layoutResourceID);
+  }
+
+  /**
+   * <p>Sets whether this dialog's content view is inflated on a background thread, while a
+   * placeholder is shown. The <code>ViewInterceptor</code> is still called on the main thread,
+   * once the inflated view replaced the placeholder.</p>
+   *
+   * @param asyncInflation Flag whether to inflate the content view asynchronously.
+   */
+  public void setAsyncInflation(boolean asyncInflation) {
+    controller.setAsyncInflation(asyncInflation);
+  }
+
+  /**
+   * <p>Sets whether this dialog's content view is taken from the <code>ViewPool</code> and returned
+   * to it on dismissal, instead of being inflated on every show.</p>
+   *
+   * @param viewPooling Flag whether to pool the content view.
+   *
+   * @see de.dimensionv.android.androdialogs.common.ViewPool
+   */
+  public void setViewPooling(boolean viewPooling) {
+    controller.setViewPooling(viewPooling);
+  }
+
   /**
    * Returns the tag under which this dialog can be registered with the fragment manager.
    *
    * @return The default tag under which the dialog can be registered with the <code>FragmentManager</code>.
    */
+  @Override
   public String getDialogTag() {
     return controller.getDialogTag();
   }
+
+  /**
+   * Sets the listener to be notified when this dialog fragment is finally destroyed.
+   *
+   * @param listener The listener, or null to remove it.
+   */
+  @Override
+  public void setOnDialogDestroyedListener(OnDialogDestroyedListener listener) {
+    controller.setOnDialogDestroyedListener(listener);
+  }
+
+  /**
+   * <p>Shows this dialog in the given <code>Activity</code>, using the default tag as returned by
+   * {@link #getDialogTag()}.</p>
+   *
+   * @param activity The <code>Activity</code> to show the dialog in.
+   */
+  @Override
+  public void showDialog(Activity activity) {
+    showDialog(activity, getDialogTag());
+  }
+
+  /**
+   * <p>Shows this dialog in the given <code>Activity</code>, using the given tag.</p>
+   *
+   * @param activity The <code>Activity</code> to show the dialog in.
+   * @param tag The tag under which the dialog is registered with the <code>FragmentManager</code>.
+   */
+  @Override
+  public void showDialog(Activity activity, String tag) {
+    show(activity.getFragmentManager(), tag);
+  }
 }
\ No newline at end of file
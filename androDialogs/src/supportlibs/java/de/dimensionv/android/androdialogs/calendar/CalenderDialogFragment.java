@@ -5,13 +5,20 @@ import android.support.v4.app.DialogFragment;
 
 import java.util.Calendar;
 
+import de.dimensionv.android.androdialogs.handlers.ActionHandler;
 import de.dimensionv.android.androdialogs.handlers.CalenderDialogActionHandler;
+import de.dimensionv.android.androdialogs.handlers.CalenderMillisActionHandler;
 
 /**
  * <p>Base-class for the date- and time-picker <code>DialogFragment</code>s.</p>
  *
  * <p>Please note that this class is intended to be used directly.</p>
  *
+ * <p>The <code>Activity</code> has to implement either the {@link CalenderDialogActionHandler},
+ * the {@link CalenderMillisActionHandler}, or the handler with plain fields supported by the
+ * concrete dialog. Each dialog keeps a single <code>Calendar</code> for its conversions, which is
+ * only created if it is needed.</p>
+ *
  * @author Volkmar Seifert
  * @version 1.0
  * @since API 1.0.0
@@ -21,7 +28,9 @@ abstract class CalenderDialogFragment extends DialogFragment {
   /**
    * the mandatory handler-object
    */
-  private CalenderDialogActionHandler handler = null;
+  private ActionHandler handler = null;
+
+  private Calendar calendar = null;
 
   private String dialogTag = null;
 
@@ -43,21 +52,69 @@ abstract class CalenderDialogFragment extends DialogFragment {
   @Override
   public void onAttach(Activity activity) {
     super.onAttach(activity);
-    try {
-      handler = (CalenderDialogActionHandler) activity;
-    } catch(ClassCastException ex) {
-      throw new ClassCastException(activity.toString() + " does not implement the interface CalenderDialogActionHandler.");
+    Class<? extends ActionHandler> fieldHandlerClass = getFieldHandlerClass();
+    if(!(activity instanceof CalenderDialogActionHandler) && !(activity instanceof CalenderMillisActionHandler)
+       && !fieldHandlerClass.isInstance(activity)) {
+      throw new ClassCastException(activity.toString() + " does not implement any of the interfaces CalenderDialogActionHandler, "
+                                   + "CalenderMillisActionHandler or " + fieldHandlerClass.getSimpleName() + ".");
+    }
+    handler = (ActionHandler) activity;
+  }
+
+  /**
+   * Releases the handler, as it is the <code>Activity</code> this dialog is detached from.
+   */
+  @Override
+  public void onDetach() {
+    super.onDetach();
+    handler = null;
+  }
+
+  /**
+   * Returns the interface of the handler that receives the selection as plain fields.
+   *
+   * @return The interface of the handler with plain fields.
+   */
+  protected abstract Class<? extends ActionHandler> getFieldHandlerClass();
+
+  /**
+   * Returns the handler of this dialog.
+   *
+   * @return The handler, or null if the dialog is not attached.
+   */
+  protected ActionHandler getHandler() {
+    return handler;
+  }
+
+  /**
+   * Returns the <code>Calendar</code> of this dialog, which is created on first use and reused
+   * afterwards. Its fields have to be set completely on every use.
+   *
+   * @return The <code>Calendar</code> of this dialog.
+   */
+  protected Calendar getCalendar() {
+    if(calendar == null) {
+      calendar = Calendar.getInstance();
     }
+    return calendar;
   }
 
   /**
-   * Calls the mandatory handler for setting the date/time the user has provided through this
-   * <code>DialogFragment</code>.
+   * <p>Calls the mandatory handler for setting the date/time the user has provided through this
+   * <code>DialogFragment</code>.</p>
+   *
+   * <p>A {@link CalenderMillisActionHandler} receives the time in milliseconds. A
+   * {@link CalenderDialogActionHandler} receives a copy of the given <code>Calendar</code>, so it
+   * may keep it.</p>
    *
    * @param calendar The selected date/time.
    */
   protected void callHandler(Calendar calendar) {
-    handler.onCalenderSet(calendar);
+    if(handler instanceof CalenderMillisActionHandler) {
+      ((CalenderMillisActionHandler) handler).onCalenderSet(calendar.getTimeInMillis());
+    } else if(handler instanceof CalenderDialogActionHandler) {
+      ((CalenderDialogActionHandler) handler).onCalenderSet((Calendar) calendar.clone());
+    }
   }
 
   /**
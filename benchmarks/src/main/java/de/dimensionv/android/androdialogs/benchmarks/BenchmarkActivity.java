@@ -0,0 +1,48 @@
+package de.dimensionv.android.androdialogs.benchmarks;
+
+import android.app.Activity;
+import android.content.res.Resources;
+import android.view.LayoutInflater;
+
+import de.dimensionv.android.androdialogs.common.DialogFragmentInterface;
+import de.dimensionv.android.androdialogs.handlers.ConfirmationActionHandler;
+import de.dimensionv.android.androdialogs.handlers.HintActionHandler;
+
+/**
+ * <p>The <code>Activity</code> the benchmarked dialogs are attached to.</p>
+ *
+ * <p>It provides the library's resources and layouts through {@link BenchmarkResources} and
+ * {@link BenchmarkLayoutInflater}, and implements the action handlers, so dialogs can register
+ * it.</p>
+ *
+ * @author Volkmar Seifert
+ * @version 1.0
+ * @since API 2.1.0
+ */
+public class BenchmarkActivity extends Activity implements ConfirmationActionHandler, HintActionHandler {
+
+  private final Resources resources = new BenchmarkResources();
+  private final LayoutInflater layoutInflater = new BenchmarkLayoutInflater(this);
+
+  @Override
+  public Resources getResources() {
+    return resources;
+  }
+
+  @Override
+  public LayoutInflater getLayoutInflater() {
+    return layoutInflater;
+  }
+
+  @Override
+  public void onConfirm(DialogFragmentInterface dialog) {
+  }
+
+  @Override
+  public void onCancel(DialogFragmentInterface dialog) {
+  }
+
+  @Override
+  public void onClose(int hintID, boolean showAgain) {
+  }
+}
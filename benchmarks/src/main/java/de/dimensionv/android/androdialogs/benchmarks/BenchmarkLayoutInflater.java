@@ -0,0 +1,106 @@
+package de.dimensionv.android.androdialogs.benchmarks;
+
+import android.content.Context;
+import android.content.res.Resources;
+import android.view.LayoutInflater;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.CheckBox;
+import android.widget.LinearLayout;
+import android.widget.ProgressBar;
+import android.widget.RelativeLayout;
+import android.widget.ScrollView;
+import android.widget.TextView;
+
+import de.dimensionv.android.androdialogs.R;
+
+/**
+ * <p>Builds the view hierarchies of the library's layouts in code, mirroring the XML files in
+ * <code>res/layout</code>.</p>
+ *
+ * <p>XML parsing is not part of the measured cost, only the creation of the views.</p>
+ *
+ * @author Volkmar Seifert
+ * @version 1.0
+ * @since API 2.1.0
+ */
+public class BenchmarkLayoutInflater extends LayoutInflater {
+
+  public BenchmarkLayoutInflater(Context context) {
+    super(context);
+  }
+
+  @Override
+  public LayoutInflater cloneInContext(Context newContext) {
+    return new BenchmarkLayoutInflater(newContext);
+  }
+
+  @Override
+  public View inflate(int resource, ViewGroup root, boolean attachToRoot) {
+    View view;
+    if(resource == R.layout.hint_dialog_fragment) {
+      view = inflateHint();
+    } else if(resource == R.layout.progress_dialog_finite) {
+      view = inflateFiniteProgress();
+    } else if(resource == R.layout.progress_dialog_infinite) {
+      view = inflateInfiniteProgress();
+    } else {
+      throw new Resources.NotFoundException("Layout resource ID #0x" + Integer.toHexString(resource));
+    }
+    if((root != null) && attachToRoot) {
+      root.addView(view);
+      return root;
+    }
+    return view;
+  }
+
+  private View inflateHint() {
+    Context context = getContext();
+    LinearLayout layout = new LinearLayout(context);
+    layout.setOrientation(LinearLayout.VERTICAL);
+
+    ScrollView scrollView = new ScrollView(context);
+    scrollView.setId(R.id.scrollView1);
+    TextView message = new TextView(context);
+    message.setId(R.id.tvHintMessage);
+    scrollView.addView(message);
+    layout.addView(scrollView);
+
+    CheckBox showAgain = new CheckBox(context);
+    showAgain.setId(R.id.cbShowAgain);
+    showAgain.setText(R.string.showAgain);
+    layout.addView(showAgain);
+    return layout;
+  }
+
+  private View inflateFiniteProgress() {
+    Context context = getContext();
+    LinearLayout layout = new LinearLayout(context);
+    layout.setOrientation(LinearLayout.VERTICAL);
+    layout.addView(createProgressText(context));
+    layout.addView(createProgressBar(context, false));
+    return layout;
+  }
+
+  private View inflateInfiniteProgress() {
+    Context context = getContext();
+    RelativeLayout layout = new RelativeLayout(context);
+    layout.addView(createProgressBar(context, true));
+    layout.addView(createProgressText(context));
+    return layout;
+  }
+
+  private TextView createProgressText(Context context) {
+    TextView text = new TextView(context);
+    text.setId(R.id.progressDialogText);
+    text.setText(R.string.pleaseWait);
+    return text;
+  }
+
+  private ProgressBar createProgressBar(Context context, boolean indeterminate) {
+    ProgressBar progressBar = new ProgressBar(context);
+    progressBar.setId(R.id.progressDialogProgressBar);
+    progressBar.setIndeterminate(indeterminate);
+    return progressBar;
+  }
+}
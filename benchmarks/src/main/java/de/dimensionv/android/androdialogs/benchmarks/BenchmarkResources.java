@@ -0,0 +1,53 @@
+package de.dimensionv.android.androdialogs.benchmarks;
+
+import android.content.res.Resources;
+import android.util.SparseArray;
+
+import de.dimensionv.android.androdialogs.R;
+
+/**
+ * <p>Resolves the library's default (English) strings, as found in <code>res/values</code>, and
+ * a sample title and message standing in for the strings of an app.</p>
+ *
+ * @author Volkmar Seifert
+ * @version 1.0
+ * @since API 2.1.0
+ */
+public class BenchmarkResources extends Resources {
+
+  /**
+   * The resource ID of a sample title, as an app would pass it to a dialog.
+   */
+  public static final int SAMPLE_TITLE = 0x7fff0001;
+
+  /**
+   * The resource ID of a sample message, as an app would pass it to a dialog.
+   */
+  public static final int SAMPLE_MESSAGE = 0x7fff0002;
+
+  private final SparseArray<CharSequence> strings = new SparseArray<CharSequence>();
+
+  public BenchmarkResources() {
+    super(null, null, null);
+    strings.put(R.string.dialogConfirmDeletion, "Confirm deletion of this entry, please:\n[%s]");
+    strings.put(R.string.dialogConfirmDeletionSimple, "Are you sure you want to delete the selected items?");
+    strings.put(R.string.confirm, "Confirm");
+    strings.put(R.string.discard, "Discard");
+    strings.put(R.string.OK, "OK");
+    strings.put(R.string.showAgain, "Show Again");
+    strings.put(R.string.pleaseWait, "Operation in progess, please wait\u2026");
+    strings.put(R.string.andMore, "\u2026and %d more");
+    strings.put(SAMPLE_TITLE, "Did you know?");
+    strings.put(SAMPLE_MESSAGE, "You can long-press any entry to select several entries at once. "
+                                + "Visit http://www.dimensionv.de/ for more tips.");
+  }
+
+  @Override
+  public CharSequence getText(int id) throws NotFoundException {
+    CharSequence text = strings.get(id);
+    if(text == null) {
+      throw new NotFoundException("String resource ID #0x" + Integer.toHexString(id));
+    }
+    return text;
+  }
+}
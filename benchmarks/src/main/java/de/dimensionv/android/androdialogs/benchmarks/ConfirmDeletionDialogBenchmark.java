@@ -0,0 +1,69 @@
+package de.dimensionv.android.androdialogs.benchmarks;
+
+import android.app.AlertDialog.Builder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import de.dimensionv.android.androdialogs.dialogs.ConfirmDeletionDialogFragment;
+
+/**
+ * <p>Measures creating and populating a {@link ConfirmDeletionDialogFragment}, with and without
+ * formatting the data into the message.</p>
+ *
+ * @author Volkmar Seifert
+ * @version 1.0
+ * @since API 2.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfirmDeletionDialogBenchmark {
+
+  private static final String DATA = "IMG_20150612_183045.jpg";
+
+  private BenchmarkActivity activity;
+  private ConfirmDeletionDialogFragment formattedDialog;
+  private ConfirmDeletionDialogFragment simpleDialog;
+
+  @Setup
+  public void setUp() {
+    activity = new BenchmarkActivity();
+    formattedDialog = ConfirmDeletionDialogFragment.createDialog(DATA);
+    formattedDialog.onAttach(activity);
+    simpleDialog = ConfirmDeletionDialogFragment.createDialog();
+    simpleDialog.onAttach(activity);
+  }
+
+  @Benchmark
+  public ConfirmDeletionDialogFragment createDialog() {
+    return ConfirmDeletionDialogFragment.createDialog(DATA);
+  }
+
+  @Benchmark
+  public Builder populateDialogFormatted() {
+    Builder builder = new Builder(activity);
+    formattedDialog.populateDialog(builder, formattedDialog.getArguments());
+    return builder;
+  }
+
+  @Benchmark
+  public Builder populateDialogSimple() {
+    Builder builder = new Builder(activity);
+    simpleDialog.populateDialog(builder, simpleDialog.getArguments());
+    return builder;
+  }
+}
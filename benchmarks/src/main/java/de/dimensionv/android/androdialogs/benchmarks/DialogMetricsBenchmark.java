@@ -0,0 +1,63 @@
+package de.dimensionv.android.androdialogs.benchmarks;
+
+import android.app.AlertDialog.Builder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import de.dimensionv.android.androdialogs.dialogs.ProgressDialogFragment;
+import de.dimensionv.android.androdialogs.metrics.DialogMetrics;
+
+/**
+ * <p>Measures the overhead of {@link DialogMetrics} on creating, attaching and populating a
+ * dialog, with metrics enabled and disabled.</p>
+ *
+ * @author Volkmar Seifert
+ * @version 1.0
+ * @since API 2.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DialogMetricsBenchmark {
+
+  @Param({"false", "true"})
+  public boolean metricsEnabled;
+
+  private BenchmarkActivity activity;
+
+  @Setup
+  public void setUp() {
+    activity = new BenchmarkActivity();
+    DialogMetrics.setEnabled(metricsEnabled);
+  }
+
+  @TearDown
+  public void tearDown() {
+    DialogMetrics.setEnabled(false);
+  }
+
+  @Benchmark
+  public ProgressDialogFragment createAndPopulateDialog() {
+    ProgressDialogFragment dialog = ProgressDialogFragment.createFiniteProgressDialog(false);
+    dialog.onAttach(activity);
+    dialog.onCreate(null);
+    dialog.onCreateDialog(null);
+    return dialog;
+  }
+}
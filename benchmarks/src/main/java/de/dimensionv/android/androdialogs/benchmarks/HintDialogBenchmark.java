@@ -0,0 +1,78 @@
+package de.dimensionv.android.androdialogs.benchmarks;
+
+import android.app.AlertDialog.Builder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import de.dimensionv.android.androdialogs.common.DialogExecutors;
+import de.dimensionv.android.androdialogs.dialogs.HintDialogFragment;
+
+/**
+ * <p>Measures creating and populating a {@link HintDialogFragment}, which includes inflating its
+ * layout.</p>
+ *
+ * <p>The message is linkified on the first run only, so <code>populateDialog</code> measures
+ * showing the cached linkified text, as on a rotation.</p>
+ *
+ * @author Volkmar Seifert
+ * @version 1.0
+ * @since API 2.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HintDialogBenchmark {
+
+  private static final int HINT_ID = 42;
+
+  private BenchmarkActivity activity;
+  private HintDialogFragment dialog;
+
+  @Setup
+  public void setUp() {
+    // linkify on the benchmark thread, which stands in for the main thread
+    DialogExecutors.setBackgroundExecutor(new Executor() {
+      @Override
+      public void execute(Runnable command) {
+        command.run();
+      }
+    });
+    activity = new BenchmarkActivity();
+    dialog = createDialog();
+    dialog.onAttach(activity);
+  }
+
+  @TearDown
+  public void tearDown() {
+    // restore the default, so later benchmarks in the same fork are not affected
+    DialogExecutors.setBackgroundExecutor(null);
+  }
+
+  @Benchmark
+  public HintDialogFragment createDialog() {
+    return HintDialogFragment.createDialog(BenchmarkResources.SAMPLE_TITLE, BenchmarkResources.SAMPLE_MESSAGE, HINT_ID);
+  }
+
+  @Benchmark
+  public Builder populateDialog() {
+    Builder builder = new Builder(activity);
+    dialog.populateDialog(builder, dialog.getArguments());
+    return builder;
+  }
+}
@@ -0,0 +1,86 @@
+package de.dimensionv.android.androdialogs.benchmarks;
+
+import android.app.AlertDialog.Builder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import de.dimensionv.android.androdialogs.dialogs.ProgressDialogFragment;
+import de.dimensionv.android.androdialogs.progress.PercentageThrottlePolicy;
+
+/**
+ * <p>Measures creating and populating a finite {@link ProgressDialogFragment}, and updating its
+ * progress with and without a {@link PercentageThrottlePolicy}.</p>
+ *
+ * @author Volkmar Seifert
+ * @version 1.0
+ * @since API 2.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProgressDialogBenchmark {
+
+  private static final int MAX = 100000;
+
+  private BenchmarkActivity activity;
+  private ProgressDialogFragment dialog;
+  private ProgressDialogFragment throttledDialog;
+  private int progress = 0;
+
+  @Setup
+  public void setUp() {
+    activity = new BenchmarkActivity();
+    dialog = createShownDialog();
+    throttledDialog = createShownDialog();
+    throttledDialog.setThrottlePolicy(new PercentageThrottlePolicy());
+  }
+
+  private ProgressDialogFragment createShownDialog() {
+    ProgressDialogFragment dialogFragment = createDialog();
+    dialogFragment.onAttach(activity);
+    dialogFragment.onCreate(null);
+    dialogFragment.populateDialog(new Builder(activity), dialogFragment.getArguments());
+    return dialogFragment;
+  }
+
+  private int nextProgress() {
+    progress = (progress < MAX) ? (progress + 1) : 0;
+    return progress;
+  }
+
+  @Benchmark
+  public ProgressDialogFragment createDialog() {
+    return ProgressDialogFragment.createFiniteProgressDialog(false, MAX);
+  }
+
+  @Benchmark
+  public Builder populateDialog() {
+    Builder builder = new Builder(activity);
+    dialog.populateDialog(builder, dialog.getArguments());
+    return builder;
+  }
+
+  @Benchmark
+  public void setProgress() {
+    dialog.setProgress(nextProgress());
+  }
+
+  @Benchmark
+  public void setProgressThrottled() {
+    throttledDialog.setProgress(nextProgress());
+  }
+}
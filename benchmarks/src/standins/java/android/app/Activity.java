@@ -0,0 +1,40 @@
+package android.app;
+
+import android.content.ContextWrapper;
+import android.view.LayoutInflater;
+
+/**
+ * <p>Stand-in for the Android {@code Activity}.</p>
+ *
+ * <p>It has neither resources nor a window. Benchmarks provide them by overriding
+ * {@link #getResources()} and {@link #getLayoutInflater()}.</p>
+ */
+public class Activity extends ContextWrapper {
+
+  private final FragmentManager fragmentManager = new FragmentManager();
+  private boolean finishing = false;
+
+  public Activity() {
+    super(null);
+  }
+
+  public LayoutInflater getLayoutInflater() {
+    throw new UnsupportedOperationException("The stand-in Activity has no window.");
+  }
+
+  public FragmentManager getFragmentManager() {
+    return fragmentManager;
+  }
+
+  public void finish() {
+    finishing = true;
+  }
+
+  public boolean isFinishing() {
+    return finishing;
+  }
+
+  public boolean isChangingConfigurations() {
+    return false;
+  }
+}
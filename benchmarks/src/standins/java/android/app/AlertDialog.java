@@ -0,0 +1,118 @@
+package android.app;
+
+import android.content.Context;
+import android.content.DialogInterface;
+import android.view.View;
+
+/**
+ * <p>Stand-in for the Android {@code AlertDialog}.</p>
+ *
+ * <p>Like the framework's <code>Builder</code>, the stand-in resolves resource IDs when they are
+ * set, so that cost is part of populating a dialog.</p>
+ */
+public class AlertDialog extends Dialog implements DialogInterface {
+
+  private CharSequence message = null;
+  private View view = null;
+
+  protected AlertDialog(Context context) {
+    super(context);
+  }
+
+  public void setMessage(CharSequence message) {
+    this.message = message;
+  }
+
+  public CharSequence getMessage() {
+    return message;
+  }
+
+  public void setView(View view) {
+    this.view = view;
+  }
+
+  public View getView() {
+    return view;
+  }
+
+  public static class Builder {
+
+    private final Context context;
+    private CharSequence title = null;
+    private CharSequence message = null;
+    private View view = null;
+    private final CharSequence buttonTexts[] = new CharSequence[3];
+    private final DialogInterface.OnClickListener buttonListeners[] = new DialogInterface.OnClickListener[3];
+
+    public Builder(Context context) {
+      this.context = context;
+    }
+
+    public Context getContext() {
+      return context;
+    }
+
+    public Builder setTitle(int titleId) {
+      title = context.getText(titleId);
+      return this;
+    }
+
+    public Builder setTitle(CharSequence title) {
+      this.title = title;
+      return this;
+    }
+
+    public Builder setMessage(int messageId) {
+      message = context.getText(messageId);
+      return this;
+    }
+
+    public Builder setMessage(CharSequence message) {
+      this.message = message;
+      return this;
+    }
+
+    public Builder setView(View view) {
+      this.view = view;
+      return this;
+    }
+
+    public Builder setPositiveButton(int textId, DialogInterface.OnClickListener listener) {
+      return setButton(0, context.getText(textId), listener);
+    }
+
+    public Builder setPositiveButton(CharSequence text, DialogInterface.OnClickListener listener) {
+      return setButton(0, text, listener);
+    }
+
+    public Builder setNegativeButton(int textId, DialogInterface.OnClickListener listener) {
+      return setButton(1, context.getText(textId), listener);
+    }
+
+    public Builder setNegativeButton(CharSequence text, DialogInterface.OnClickListener listener) {
+      return setButton(1, text, listener);
+    }
+
+    public Builder setNeutralButton(int textId, DialogInterface.OnClickListener listener) {
+      return setButton(2, context.getText(textId), listener);
+    }
+
+    public Builder setNeutralButton(CharSequence text, DialogInterface.OnClickListener listener) {
+      return setButton(2, text, listener);
+    }
+
+    private Builder setButton(int index, CharSequence text, DialogInterface.OnClickListener listener) {
+      buttonTexts[index] = text;
+      buttonListeners[index] = listener;
+      return this;
+    }
+
+    public AlertDialog create() {
+      AlertDialog dialog = new AlertDialog(context);
+      dialog.setTitle(title);
+      dialog.setMessage(message);
+      dialog.setView(view);
+      return dialog;
+    }
+  }
+}
@@ -0,0 +1,46 @@
+package android.app;
+
+import android.content.Context;
+import android.content.DialogInterface;
+import android.view.Window;
+
+/**
+ * Stand-in for the Android {@code Dialog}. It is never actually shown.
+ */
+public class Dialog implements DialogInterface {
+
+  private final Context context;
+  private CharSequence title = null;
+
+  public Dialog(Context context) {
+    this.context = context;
+  }
+
+  public final Context getContext() {
+    return context;
+  }
+
+  public Window getWindow() {
+    return null;
+  }
+
+  public void setTitle(CharSequence title) {
+    this.title = title;
+  }
+
+  public CharSequence getTitle() {
+    return title;
+  }
+
+  public boolean isShowing() {
+    return false;
+  }
+
+  @Override
+  public void cancel() {
+  }
+
+  @Override
+  public void dismiss() {
+  }
+}
@@ -0,0 +1,45 @@
+package android.app;
+
+import android.content.DialogInterface;
+import android.os.Bundle;
+
+/**
+ * Stand-in for the Android {@code DialogFragment}. It never shows a dialog.
+ */
+public class DialogFragment extends Fragment implements DialogInterface.OnCancelListener, DialogInterface.OnDismissListener {
+
+  private boolean cancelable = true;
+
+  public DialogFragment() {
+  }
+
+  public void setCancelable(boolean cancelable) {
+    this.cancelable = cancelable;
+  }
+
+  public boolean isCancelable() {
+    return cancelable;
+  }
+
+  public void show(FragmentManager manager, String tag) {
+  }
+
+  public void dismissAllowingStateLoss() {
+  }
+
+  public Dialog getDialog() {
+    return null;
+  }
+
+  public Dialog onCreateDialog(Bundle savedInstanceState) {
+    return new Dialog(getActivity());
+  }
+
+  @Override
+  public void onCancel(DialogInterface dialog) {
+  }
+
+  @Override
+  public void onDismiss(DialogInterface dialog) {
+  }
+}
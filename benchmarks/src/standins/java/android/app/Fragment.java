@@ -0,0 +1,86 @@
+package android.app;
+
+import android.content.res.Resources;
+import android.os.Bundle;
+
+/**
+ * <p>Stand-in for the Android {@code Fragment}.</p>
+ *
+ * <p>There is no <code>FragmentManager</code>: attaching and detaching is simulated by calling
+ * {@link #onAttach(Activity)} and {@link #onDetach()} directly.</p>
+ */
+public class Fragment {
+
+  private Activity activity = null;
+  private Bundle arguments = null;
+  private boolean retainInstance = false;
+
+  public Fragment() {
+  }
+
+  public final Activity getActivity() {
+    return activity;
+  }
+
+  public final boolean isAdded() {
+    return activity != null;
+  }
+
+  public void setArguments(Bundle args) {
+    arguments = args;
+  }
+
+  public final Bundle getArguments() {
+    return arguments;
+  }
+
+  public void setRetainInstance(boolean retain) {
+    retainInstance = retain;
+  }
+
+  public final boolean getRetainInstance() {
+    return retainInstance;
+  }
+
+  public final Resources getResources() {
+    if(activity == null) {
+      throw new IllegalStateException("Fragment " + this + " not attached to Activity");
+    }
+    return activity.getResources();
+  }
+
+  public final CharSequence getText(int resId) {
+    return getResources().getText(resId);
+  }
+
+  public final String getString(int resId) {
+    return getResources().getString(resId);
+  }
+
+  public final String getString(int resId, Object... formatArgs) {
+    return getResources().getString(resId, formatArgs);
+  }
+
+  public void onAttach(Activity activity) {
+    this.activity = activity;
+  }
+
+  public void onCreate(Bundle savedInstanceState) {
+  }
+
+  public void onStart() {
+  }
+
+  public void onSaveInstanceState(Bundle outState) {
+  }
+
+  public void onDestroyView() {
+  }
+
+  public void onDestroy() {
+  }
+
+  public void onDetach() {
+    activity = null;
+  }
+}
@@ -0,0 +1,7 @@
+package android.app;
+
+/**
+ * Stand-in for the Android {@code FragmentManager}. It does not manage any fragments.
+ */
+public class FragmentManager {
+}
@@ -0,0 +1,29 @@
+package android.content;
+
+import android.content.res.Resources;
+
+/**
+ * Stand-in for the Android {@code Context}, providing the subset used by the benchmarked code.
+ */
+public abstract class Context {
+
+  public static final String LAYOUT_INFLATER_SERVICE = "layout_inflater";
+
+  public abstract Resources getResources();
+
+  public abstract Context getApplicationContext();
+
+  public abstract Object getSystemService(String name);
+
+  public final CharSequence getText(int resId) {
+    return getResources().getText(resId);
+  }
+
+  public final String getString(int resId) {
+    return getResources().getString(resId);
+  }
+
+  public final String getString(int resId, Object... formatArgs) {
+    return getResources().getString(resId, formatArgs);
+  }
+}
@@ -0,0 +1,34 @@
+package android.content;
+
+import android.content.res.Resources;
+
+/**
+ * Stand-in for the Android {@code ContextWrapper}, delegating to its base context.
+ */
+public class ContextWrapper extends Context {
+
+  private Context base;
+
+  public ContextWrapper(Context base) {
+    this.base = base;
+  }
+
+  public Context getBaseContext() {
+    return base;
+  }
+
+  @Override
+  public Resources getResources() {
+    return base.getResources();
+  }
+
+  @Override
+  public Context getApplicationContext() {
+    return base.getApplicationContext();
+  }
+
+  @Override
+  public Object getSystemService(String name) {
+    return base.getSystemService(name);
+  }
+}
@@ -0,0 +1,31 @@
+package android.content;
+
+/**
+ * Stand-in for the Android {@code DialogInterface}.
+ */
+public interface DialogInterface {
+
+  public static final int BUTTON_POSITIVE = -1;
+  public static final int BUTTON_NEGATIVE = -2;
+  public static final int BUTTON_NEUTRAL = -3;
+
+  public void cancel();
+
+  public void dismiss();
+
+  public interface OnCancelListener {
+    public void onCancel(DialogInterface dialog);
+  }
+
+  public interface OnDismissListener {
+    public void onDismiss(DialogInterface dialog);
+  }
+
+  public interface OnShowListener {
+    public void onShow(DialogInterface dialog);
+  }
+
+  public interface OnClickListener {
+    public void onClick(DialogInterface dialog, int which);
+  }
+}
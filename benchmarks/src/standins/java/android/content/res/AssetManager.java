@@ -0,0 +1,8 @@
+package android.content.res;
+
+/**
+ * Stand-in for the Android {@code AssetManager}. It only exists to satisfy the constructor of
+ * {@link Resources}.
+ */
+public final class AssetManager {
+}
@@ -0,0 +1,14 @@
+package android.content.res;
+
+import java.util.Locale;
+
+/**
+ * Stand-in for the Android {@code Configuration}.
+ */
+public final class Configuration {
+
+  public Locale locale = Locale.getDefault();
+
+  public Configuration() {
+  }
+}
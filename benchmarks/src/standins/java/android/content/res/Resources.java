@@ -0,0 +1,44 @@
+package android.content.res;
+
+import android.util.DisplayMetrics;
+
+/**
+ * <p>Stand-in for the Android {@code Resources}.</p>
+ *
+ * <p>There is no resource table behind it: {@link #getText(int)} throws a
+ * {@link NotFoundException} unless overridden. Formatting follows the framework, i.e. it uses the
+ * locale of the configuration.</p>
+ */
+public class Resources {
+
+  private final Configuration configuration;
+
+  public Resources(AssetManager assets, DisplayMetrics metrics, Configuration config) {
+    configuration = (config != null) ? config : new Configuration();
+  }
+
+  public CharSequence getText(int id) throws NotFoundException {
+    throw new NotFoundException("String resource ID #0x" + Integer.toHexString(id));
+  }
+
+  public String getString(int id) throws NotFoundException {
+    return getText(id).toString();
+  }
+
+  public String getString(int id, Object... formatArgs) throws NotFoundException {
+    return String.format(configuration.locale, getString(id), formatArgs);
+  }
+
+  public Configuration getConfiguration() {
+    return configuration;
+  }
+
+  public static class NotFoundException extends RuntimeException {
+    public NotFoundException() {
+    }
+
+    public NotFoundException(String name) {
+      super(name);
+    }
+  }
+}
@@ -0,0 +1,21 @@
+package android.os;
+
+/**
+ * Stand-in for the Android {@code Build}. It reports API level 15, the last one without a
+ * {@code Choreographer}, so frame callbacks of the library are posted through the {@code Handler}
+ * stand-in.
+ */
+public class Build {
+
+  public static class VERSION {
+
+    public static final int SDK_INT = 15;
+  }
+
+  public static class VERSION_CODES {
+
+    public static final int HONEYCOMB = 11;
+    public static final int ICE_CREAM_SANDWICH = 14;
+    public static final int JELLY_BEAN = 16;
+  }
+}
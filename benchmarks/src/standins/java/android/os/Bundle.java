@@ -0,0 +1,133 @@
+package android.os;
+
+import java.util.HashMap;
+import java.util.Set;
+
+/**
+ * Stand-in for the Android {@code Bundle}, backed by a {@code HashMap} like the framework's
+ * implementation before API level 19. Values of the wrong type are treated as missing.
+ */
+public final class Bundle {
+
+  private final HashMap<String, Object> map;
+
+  public Bundle() {
+    map = new HashMap<String, Object>();
+  }
+
+  public Bundle(Bundle b) {
+    map = new HashMap<String, Object>(b.map);
+  }
+
+  public int size() {
+    return map.size();
+  }
+
+  public boolean isEmpty() {
+    return map.isEmpty();
+  }
+
+  public void clear() {
+    map.clear();
+  }
+
+  public boolean containsKey(String key) {
+    return map.containsKey(key);
+  }
+
+  public Object get(String key) {
+    return map.get(key);
+  }
+
+  public void remove(String key) {
+    map.remove(key);
+  }
+
+  public Set<String> keySet() {
+    return map.keySet();
+  }
+
+  public void setClassLoader(ClassLoader loader) {
+  }
+
+  public void putBoolean(String key, boolean value) {
+    map.put(key, value);
+  }
+
+  public void putInt(String key, int value) {
+    map.put(key, value);
+  }
+
+  public void putLong(String key, long value) {
+    map.put(key, value);
+  }
+
+  public void putString(String key, String value) {
+    map.put(key, value);
+  }
+
+  public void putCharSequence(String key, CharSequence value) {
+    map.put(key, value);
+  }
+
+  public void putBundle(String key, Bundle value) {
+    map.put(key, value);
+  }
+
+  public void putParcelable(String key, Parcelable value) {
+    map.put(key, value);
+  }
+
+  public boolean getBoolean(String key) {
+    return getBoolean(key, false);
+  }
+
+  public boolean getBoolean(String key, boolean defaultValue) {
+    Object o = map.get(key);
+    return (o instanceof Boolean) ? (Boolean) o : defaultValue;
+  }
+
+  public int getInt(String key) {
+    return getInt(key, 0);
+  }
+
+  public int getInt(String key, int defaultValue) {
+    Object o = map.get(key);
+    return (o instanceof Integer) ? (Integer) o : defaultValue;
+  }
+
+  public long getLong(String key) {
+    return getLong(key, 0L);
+  }
+
+  public long getLong(String key, long defaultValue) {
+    Object o = map.get(key);
+    return (o instanceof Long) ? (Long) o : defaultValue;
+  }
+
+  public String getString(String key) {
+    Object o = map.get(key);
+    return (o instanceof String) ? (String) o : null;
+  }
+
+  public String getString(String key, String defaultValue) {
+    String s = getString(key);
+    return (s != null) ? s : defaultValue;
+  }
+
+  public CharSequence getCharSequence(String key) {
+    Object o = map.get(key);
+    return (o instanceof CharSequence) ? (CharSequence) o : null;
+  }
+
+  @SuppressWarnings("unchecked")
+  public <T extends Parcelable> T getParcelable(String key) {
+    Object o = map.get(key);
+    return (o instanceof Parcelable) ? (T) o : null;
+  }
+
+  public Bundle getBundle(String key) {
+    Object o = map.get(key);
+    return (o instanceof Bundle) ? (Bundle) o : null;
+  }
+}
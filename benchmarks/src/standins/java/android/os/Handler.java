@@ -0,0 +1,25 @@
+package android.os;
+
+import de.dimensionv.android.androdialogs.standins.MainThreadQueue;
+
+/**
+ * Stand-in for the Android {@code Handler}. Posted {@code Runnable}s are run right away on the
+ * calling thread, so the benchmarks have to run any background work on their own thread, too.
+ * Tests may queue them instead, see {@link MainThreadQueue}.
+ */
+public class Handler {
+
+  public Handler(Looper looper) {
+  }
+
+  public final boolean post(Runnable r) {
+    if(!MainThreadQueue.enqueue(r)) {
+      r.run();
+    }
+    return true;
+  }
+
+  public final boolean postDelayed(Runnable r, long delayMillis) {
+    return post(r);
+  }
+}
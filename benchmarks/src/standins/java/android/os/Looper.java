@@ -0,0 +1,20 @@
+package android.os;
+
+/**
+ * Stand-in for the Android {@code Looper}. The benchmark thread is treated as the main thread.
+ */
+public final class Looper {
+
+  private static final Looper MAIN_LOOPER = new Looper();
+
+  private Looper() {
+  }
+
+  public static Looper getMainLooper() {
+    return MAIN_LOOPER;
+  }
+
+  public static Looper myLooper() {
+    return MAIN_LOOPER;
+  }
+}
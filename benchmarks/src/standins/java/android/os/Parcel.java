@@ -0,0 +1,77 @@
+package android.os;
+
+import java.util.ArrayList;
+
+/**
+ * Stand-in for the Android {@code Parcel}, keeping the written values in a list. Only the value
+ * types used by the generated argument classes are supported.
+ */
+public final class Parcel {
+
+  private final ArrayList<Object> values = new ArrayList<Object>();
+  private int position = 0;
+
+  private Parcel() {
+  }
+
+  public static Parcel obtain() {
+    return new Parcel();
+  }
+
+  public void recycle() {
+    values.clear();
+    position = 0;
+  }
+
+  public void setDataPosition(int pos) {
+    position = pos;
+  }
+
+  public void writeByte(byte val) {
+    values.add(val);
+  }
+
+  public void writeInt(int val) {
+    values.add(val);
+  }
+
+  public void writeLong(long val) {
+    values.add(val);
+  }
+
+  public void writeFloat(float val) {
+    values.add(val);
+  }
+
+  public void writeDouble(double val) {
+    values.add(val);
+  }
+
+  public void writeString(String val) {
+    values.add(val);
+  }
+
+  public byte readByte() {
+    return (Byte) values.get(position++);
+  }
+
+  public int readInt() {
+    return (Integer) values.get(position++);
+  }
+
+  public long readLong() {
+    return (Long) values.get(position++);
+  }
+
+  public float readFloat() {
+    return (Float) values.get(position++);
+  }
+
+  public double readDouble() {
+    return (Double) values.get(position++);
+  }
+
+  public String readString() {
+    return (String) values.get(position++);
+  }
+}
@@ -0,0 +1,13 @@
+package android.os;
+
+/**
+ * Stand-in for the Android {@code Process}. Thread priorities are not simulated.
+ */
+public class Process {
+
+  public static final int THREAD_PRIORITY_DEFAULT = 0;
+  public static final int THREAD_PRIORITY_BACKGROUND = 10;
+
+  public static final void setThreadPriority(int priority) {
+  }
+}
@@ -0,0 +1,8 @@
+package android.text;
+
+/**
+ * Stand-in for the Android {@code Editable}. Only the text is kept, see
+ * {@link SpannableStringBuilder}.
+ */
+public interface Editable extends Spannable {
+}
@@ -0,0 +1,7 @@
+package android.text;
+
+/**
+ * Stand-in for the Android {@code Spannable}. Spans are not simulated.
+ */
+public interface Spannable extends CharSequence {
+}
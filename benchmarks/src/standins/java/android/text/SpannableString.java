@@ -0,0 +1,33 @@
+package android.text;
+
+/**
+ * Stand-in for the Android {@code SpannableString}. It keeps the text, but no spans.
+ */
+public class SpannableString implements Spannable {
+
+  private final String text;
+
+  public SpannableString(CharSequence source) {
+    text = source.toString();
+  }
+
+  @Override
+  public int length() {
+    return text.length();
+  }
+
+  @Override
+  public char charAt(int index) {
+    return text.charAt(index);
+  }
+
+  @Override
+  public CharSequence subSequence(int start, int end) {
+    return new SpannableString(text.substring(start, end));
+  }
+
+  @Override
+  public String toString() {
+    return text;
+  }
+}
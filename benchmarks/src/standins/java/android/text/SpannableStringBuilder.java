@@ -0,0 +1,43 @@
+package android.text;
+
+/**
+ * Stand-in for the Android {@code SpannableStringBuilder}. It keeps the text, but no spans.
+ */
+public class SpannableStringBuilder implements Editable {
+
+  private final StringBuilder text;
+
+  public SpannableStringBuilder(CharSequence source) {
+    text = new StringBuilder(source);
+  }
+
+  public SpannableStringBuilder append(CharSequence source) {
+    text.append(source);
+    return this;
+  }
+
+  public SpannableStringBuilder append(char c) {
+    text.append(c);
+    return this;
+  }
+
+  @Override
+  public int length() {
+    return text.length();
+  }
+
+  @Override
+  public char charAt(int index) {
+    return text.charAt(index);
+  }
+
+  @Override
+  public CharSequence subSequence(int start, int end) {
+    return new SpannableStringBuilder(text.subSequence(start, end));
+  }
+
+  @Override
+  public String toString() {
+    return text.toString();
+  }
+}
@@ -0,0 +1,19 @@
+package android.text;
+
+/**
+ * Stand-in for the Android {@code TextUtils}. Spans are not simulated.
+ */
+public class TextUtils {
+
+  public static boolean isEmpty(CharSequence str) {
+    return (str == null) || (str.length() == 0);
+  }
+
+  public static CharSequence concat(CharSequence... text) {
+    StringBuilder builder = new StringBuilder();
+    for(CharSequence piece : text) {
+      builder.append(piece);
+    }
+    return builder.toString();
+  }
+}
@@ -0,0 +1,13 @@
+package android.text.method;
+
+/**
+ * Stand-in for the Android {@code LinkMovementMethod}.
+ */
+public class LinkMovementMethod implements MovementMethod {
+
+  private static final LinkMovementMethod INSTANCE = new LinkMovementMethod();
+
+  public static MovementMethod getInstance() {
+    return INSTANCE;
+  }
+}
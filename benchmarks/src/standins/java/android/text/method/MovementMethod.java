@@ -0,0 +1,7 @@
+package android.text.method;
+
+/**
+ * Stand-in for the Android {@code MovementMethod}.
+ */
+public interface MovementMethod {
+}
@@ -0,0 +1,25 @@
+package android.text.util;
+
+import android.text.Spannable;
+import android.widget.TextView;
+
+/**
+ * Stand-in for the Android {@code Linkify}. Link detection is not simulated, so it is not part of
+ * the measured cost.
+ */
+public class Linkify {
+
+  public static final int WEB_URLS = 0x01;
+  public static final int EMAIL_ADDRESSES = 0x02;
+  public static final int PHONE_NUMBERS = 0x04;
+  public static final int MAP_ADDRESSES = 0x08;
+  public static final int ALL = WEB_URLS | EMAIL_ADDRESSES | PHONE_NUMBERS | MAP_ADDRESSES;
+
+  public static final boolean addLinks(TextView text, int mask) {
+    return false;
+  }
+
+  public static final boolean addLinks(Spannable text, int mask) {
+    return false;
+  }
+}
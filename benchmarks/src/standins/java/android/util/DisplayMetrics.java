@@ -0,0 +1,12 @@
+package android.util;
+
+/**
+ * Stand-in for the Android {@code DisplayMetrics}.
+ */
+public class DisplayMetrics {
+
+  public float density = 1.0f;
+
+  public DisplayMetrics() {
+  }
+}
@@ -0,0 +1,91 @@
+package android.util;
+
+import java.util.Arrays;
+
+/**
+ * Stand-in for the Android {@code SparseArray}, mapping integers to objects through binary search
+ * in sorted parallel arrays.
+ */
+public class SparseArray<E> {
+
+  private int keys[];
+  private Object values[];
+  private int size = 0;
+
+  public SparseArray() {
+    this(10);
+  }
+
+  public SparseArray(int initialCapacity) {
+    keys = new int[Math.max(initialCapacity, 1)];
+    values = new Object[keys.length];
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public int keyAt(int index) {
+    return keys[index];
+  }
+
+  @SuppressWarnings("unchecked")
+  public E valueAt(int index) {
+    return (E) values[index];
+  }
+
+  public int indexOfKey(int key) {
+    return Arrays.binarySearch(keys, 0, size, key);
+  }
+
+  public E get(int key) {
+    return get(key, null);
+  }
+
+  @SuppressWarnings("unchecked")
+  public E get(int key, E valueIfKeyNotFound) {
+    int i = indexOfKey(key);
+    return (i < 0) ? valueIfKeyNotFound : (E) values[i];
+  }
+
+  public void put(int key, E value) {
+    int i = indexOfKey(key);
+    if(i >= 0) {
+      values[i] = value;
+      return;
+    }
+    i = ~i;
+    if(size == keys.length) {
+      keys = Arrays.copyOf(keys, size * 2);
+      values = Arrays.copyOf(values, size * 2);
+    }
+    System.arraycopy(keys, i, keys, i + 1, size - i);
+    System.arraycopy(values, i, values, i + 1, size - i);
+    keys[i] = key;
+    values[i] = value;
+    size++;
+  }
+
+  public void delete(int key) {
+    int i = indexOfKey(key);
+    if(i >= 0) {
+      removeAt(i);
+    }
+  }
+
+  public void remove(int key) {
+    delete(key);
+  }
+
+  public void removeAt(int index) {
+    System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+    System.arraycopy(values, index + 1, values, index, size - index - 1);
+    size--;
+    values[size] = null;
+  }
+
+  public void clear() {
+    Arrays.fill(values, 0, size, null);
+    size = 0;
+  }
+}
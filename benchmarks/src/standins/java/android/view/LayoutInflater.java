@@ -0,0 +1,41 @@
+package android.view;
+
+import android.content.Context;
+
+/**
+ * <p>Stand-in for the Android {@code LayoutInflater}.</p>
+ *
+ * <p>It cannot parse layout resources; benchmarks override
+ * {@link #inflate(int, ViewGroup, boolean)} to build the view hierarchy of the layouts they
+ * need.</p>
+ */
+public abstract class LayoutInflater {
+
+  private final Context context;
+
+  protected LayoutInflater(Context context) {
+    this.context = context;
+  }
+
+  public static LayoutInflater from(Context context) {
+    LayoutInflater inflater = (LayoutInflater) context.getSystemService(Context.LAYOUT_INFLATER_SERVICE);
+    if(inflater == null) {
+      throw new AssertionError("LayoutInflater not found.");
+    }
+    return inflater;
+  }
+
+  public Context getContext() {
+    return context;
+  }
+
+  public abstract LayoutInflater cloneInContext(Context newContext);
+
+  public View inflate(int resource, ViewGroup root) {
+    return inflate(resource, root, root != null);
+  }
+
+  public View inflate(int resource, ViewGroup root, boolean attachToRoot) {
+    throw new UnsupportedOperationException("The stand-in LayoutInflater cannot parse layout resources.");
+  }
+}
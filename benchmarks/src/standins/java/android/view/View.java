@@ -0,0 +1,133 @@
+package android.view;
+
+import android.content.Context;
+
+/**
+ * <p>Stand-in for the Android {@code View}.</p>
+ *
+ * <p>It keeps IDs, tags and the parent, so view lookups and bindings behave like in the framework,
+ * but it is never measured, laid out or drawn.</p>
+ */
+public class View {
+
+  public static final int NO_ID = -1;
+
+  public static final int VISIBLE = 0;
+  public static final int INVISIBLE = 4;
+  public static final int GONE = 8;
+
+  private final Context context;
+  private ViewParent parent = null;
+  private int id = NO_ID;
+  private int visibility = VISIBLE;
+  private boolean enabled = true;
+
+  private ViewTreeObserver viewTreeObserver = null;
+
+  private Object tag = null;
+  // keyed tags are kept in parallel arrays, like the framework's SparseArray
+  private int tagKeys[] = null;
+  private Object tagValues[] = null;
+  private int tagCount = 0;
+
+  public View(Context context) {
+    this.context = context;
+  }
+
+  public final Context getContext() {
+    return context;
+  }
+
+  public final ViewParent getParent() {
+    return parent;
+  }
+
+  final void assignParent(ViewParent parent) {
+    this.parent = parent;
+  }
+
+  public ViewTreeObserver getViewTreeObserver() {
+    if(viewTreeObserver == null) {
+      viewTreeObserver = new ViewTreeObserver();
+    }
+    return viewTreeObserver;
+  }
+
+  public int getId() {
+    return id;
+  }
+
+  public void setId(int id) {
+    this.id = id;
+  }
+
+  public int getVisibility() {
+    return visibility;
+  }
+
+  public void setVisibility(int visibility) {
+    this.visibility = visibility;
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public Object getTag() {
+    return tag;
+  }
+
+  public void setTag(Object tag) {
+    this.tag = tag;
+  }
+
+  public Object getTag(int key) {
+    for(int i = 0; i < tagCount; i++) {
+      if(tagKeys[i] == key) {
+        return tagValues[i];
+      }
+    }
+    return null;
+  }
+
+  public void setTag(int key, Object tag) {
+    if((key >>> 24) < 2) {
+      throw new IllegalArgumentException("The key must be an application-specific resource id.");
+    }
+    for(int i = 0; i < tagCount; i++) {
+      if(tagKeys[i] == key) {
+        tagValues[i] = tag;
+        return;
+      }
+    }
+    if(tagKeys == null) {
+      tagKeys = new int[2];
+      tagValues = new Object[2];
+    } else if(tagCount == tagKeys.length) {
+      int keys[] = new int[tagCount * 2];
+      Object values[] = new Object[tagCount * 2];
+      System.arraycopy(tagKeys, 0, keys, 0, tagCount);
+      System.arraycopy(tagValues, 0, values, 0, tagCount);
+      tagKeys = keys;
+      tagValues = values;
+    }
+    tagKeys[tagCount] = key;
+    tagValues[tagCount] = tag;
+    tagCount++;
+  }
+
+  public final View findViewById(int id) {
+    if(id == NO_ID) {
+      return null;
+    }
+    return findViewTraversal(id);
+  }
+
+  protected View findViewTraversal(int id) {
+    return (id == this.id) ? this : null;
+  }
+}
@@ -0,0 +1,83 @@
+package android.view;
+
+import android.content.Context;
+
+import java.util.ArrayList;
+
+/**
+ * Stand-in for the Android {@code ViewGroup}. It maintains the child list, but has no layout
+ * logic.
+ */
+public abstract class ViewGroup extends View implements ViewParent {
+
+  private final ArrayList<View> children = new ArrayList<View>();
+
+  public ViewGroup(Context context) {
+    super(context);
+  }
+
+  public int getChildCount() {
+    return children.size();
+  }
+
+  public View getChildAt(int index) {
+    return ((index < 0) || (index >= children.size())) ? null : children.get(index);
+  }
+
+  public void addView(View child) {
+    addView(child, -1);
+  }
+
+  public void addView(View child, int index) {
+    if(child.getParent() != null) {
+      throw new IllegalStateException("The specified child already has a parent. "
+                                      + "You must call removeView() on the child's parent first.");
+    }
+    if(index < 0) {
+      children.add(child);
+    } else {
+      children.add(index, child);
+    }
+    child.assignParent(this);
+  }
+
+  public void removeView(View view) {
+    if(children.remove(view)) {
+      view.assignParent(null);
+    }
+  }
+
+  public void removeAllViews() {
+    for(View child : children) {
+      child.assignParent(null);
+    }
+    children.clear();
+  }
+
+  @Override
+  protected View findViewTraversal(int id) {
+    if(id == getId()) {
+      return this;
+    }
+    for(int i = 0, count = children.size(); i < count; i++) {
+      View view = children.get(i).findViewTraversal(id);
+      if(view != null) {
+        return view;
+      }
+    }
+    return null;
+  }
+
+  public static class LayoutParams {
+    public static final int MATCH_PARENT = -1;
+    public static final int WRAP_CONTENT = -2;
+
+    public int width;
+    public int height;
+
+    public LayoutParams(int width, int height) {
+      this.width = width;
+      this.height = height;
+    }
+  }
+}
@@ -0,0 +1,7 @@
+package android.view;
+
+/**
+ * Stand-in for the Android {@code ViewParent}.
+ */
+public interface ViewParent {
+}
@@ -0,0 +1,28 @@
+package android.view;
+
+import java.util.ArrayList;
+
+/**
+ * Stand-in for the Android {@code ViewTreeObserver}. Listeners are kept, but never called, as
+ * nothing is ever drawn.
+ */
+public final class ViewTreeObserver {
+
+  private final ArrayList<OnPreDrawListener> onPreDrawListeners = new ArrayList<OnPreDrawListener>();
+
+  public boolean isAlive() {
+    return true;
+  }
+
+  public void addOnPreDrawListener(OnPreDrawListener listener) {
+    onPreDrawListeners.add(listener);
+  }
+
+  public void removeOnPreDrawListener(OnPreDrawListener listener) {
+    onPreDrawListeners.remove(listener);
+  }
+
+  public interface OnPreDrawListener {
+    public boolean onPreDraw();
+  }
+}
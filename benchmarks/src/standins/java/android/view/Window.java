@@ -0,0 +1,9 @@
+package android.view;
+
+/**
+ * Stand-in for the Android {@code Window}.
+ */
+public abstract class Window {
+
+  public abstract View getDecorView();
+}
@@ -0,0 +1,13 @@
+package android.widget;
+
+import android.content.Context;
+
+/**
+ * Stand-in for the Android {@code CheckBox}.
+ */
+public class CheckBox extends CompoundButton {
+
+  public CheckBox(Context context) {
+    super(context);
+  }
+}
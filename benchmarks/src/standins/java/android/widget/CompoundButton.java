@@ -0,0 +1,27 @@
+package android.widget;
+
+import android.content.Context;
+
+/**
+ * Stand-in for the Android {@code CompoundButton}.
+ */
+public abstract class CompoundButton extends Button {
+
+  private boolean checked = false;
+
+  public CompoundButton(Context context) {
+    super(context);
+  }
+
+  public boolean isChecked() {
+    return checked;
+  }
+
+  public void setChecked(boolean checked) {
+    this.checked = checked;
+  }
+
+  public void toggle() {
+    setChecked(!checked);
+  }
+}
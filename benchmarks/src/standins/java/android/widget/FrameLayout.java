@@ -0,0 +1,14 @@
+package android.widget;
+
+import android.content.Context;
+import android.view.ViewGroup;
+
+/**
+ * Stand-in for the Android {@code FrameLayout}.
+ */
+public class FrameLayout extends ViewGroup {
+
+  public FrameLayout(Context context) {
+    super(context);
+  }
+}
@@ -0,0 +1,27 @@
+package android.widget;
+
+import android.content.Context;
+import android.view.ViewGroup;
+
+/**
+ * Stand-in for the Android {@code LinearLayout}.
+ */
+public class LinearLayout extends ViewGroup {
+
+  public static final int HORIZONTAL = 0;
+  public static final int VERTICAL = 1;
+
+  private int orientation = HORIZONTAL;
+
+  public LinearLayout(Context context) {
+    super(context);
+  }
+
+  public void setOrientation(int orientation) {
+    this.orientation = orientation;
+  }
+
+  public int getOrientation() {
+    return orientation;
+  }
+}
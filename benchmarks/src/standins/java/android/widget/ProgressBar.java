@@ -0,0 +1,60 @@
+package android.widget;
+
+import android.content.Context;
+import android.view.View;
+
+/**
+ * Stand-in for the Android {@code ProgressBar}, with the framework's clamping rules, but without
+ * any drawing.
+ */
+public class ProgressBar extends View {
+
+  private int max = 100;
+  private int progress = 0;
+  private boolean indeterminate = false;
+
+  public ProgressBar(Context context) {
+    super(context);
+  }
+
+  public synchronized boolean isIndeterminate() {
+    return indeterminate;
+  }
+
+  public synchronized void setIndeterminate(boolean indeterminate) {
+    this.indeterminate = indeterminate;
+  }
+
+  public synchronized int getMax() {
+    return max;
+  }
+
+  public synchronized void setMax(int max) {
+    if(max < 0) {
+      max = 0;
+    }
+    if(max != this.max) {
+      this.max = max;
+      if(progress > max) {
+        progress = max;
+      }
+    }
+  }
+
+  public synchronized int getProgress() {
+    return indeterminate ? 0 : progress;
+  }
+
+  public synchronized void setProgress(int progress) {
+    if(indeterminate) {
+      return;
+    }
+    if(progress < 0) {
+      progress = 0;
+    }
+    if(progress > max) {
+      progress = max;
+    }
+    this.progress = progress;
+  }
+}
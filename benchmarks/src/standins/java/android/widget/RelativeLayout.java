@@ -0,0 +1,14 @@
+package android.widget;
+
+import android.content.Context;
+import android.view.ViewGroup;
+
+/**
+ * Stand-in for the Android {@code RelativeLayout}.
+ */
+public class RelativeLayout extends ViewGroup {
+
+  public RelativeLayout(Context context) {
+    super(context);
+  }
+}
@@ -0,0 +1,22 @@
+package android.widget;
+
+import android.content.Context;
+import android.view.View;
+
+/**
+ * Stand-in for the Android {@code ScrollView}, which only accepts a single child.
+ */
+public class ScrollView extends FrameLayout {
+
+  public ScrollView(Context context) {
+    super(context);
+  }
+
+  @Override
+  public void addView(View child, int index) {
+    if(getChildCount() > 0) {
+      throw new IllegalStateException("ScrollView can host only one direct child");
+    }
+    super.addView(child, index);
+  }
+}
@@ -0,0 +1,77 @@
+package android.widget;
+
+import android.content.Context;
+import android.text.SpannableStringBuilder;
+import android.text.TextWatcher;
+import android.text.method.MovementMethod;
+import android.view.View;
+
+import java.util.ArrayList;
+
+/**
+ * Stand-in for the Android {@code TextView}. It keeps the text and notifies its
+ * {@code TextWatcher}s of changes, but does no layout.
+ */
+public class TextView extends View {
+
+  private CharSequence text = "";
+  private MovementMethod movementMethod = null;
+  private ArrayList<TextWatcher> watchers = null;
+
+  public TextView(Context context) {
+    super(context);
+  }
+
+  public final void setText(CharSequence text) {
+    CharSequence oldText = this.text;
+    CharSequence newText = (text != null) ? text : "";
+    if(watchers == null) {
+      this.text = newText;
+      return;
+    }
+    SpannableStringBuilder editable = new SpannableStringBuilder(newText);
+    for(TextWatcher watcher : new ArrayList<TextWatcher>(watchers)) {
+      watcher.beforeTextChanged(oldText, 0, oldText.length(), newText.length());
+    }
+    this.text = editable;
+    for(TextWatcher watcher : new ArrayList<TextWatcher>(watchers)) {
+      watcher.onTextChanged(editable, 0, oldText.length(), newText.length());
+    }
+    for(TextWatcher watcher : new ArrayList<TextWatcher>(watchers)) {
+      watcher.afterTextChanged(editable);
+    }
+  }
+
+  public final void setText(int resid) {
+    setText(getContext().getResources().getText(resid));
+  }
+
+  public CharSequence getText() {
+    return text;
+  }
+
+  public final void setMovementMethod(MovementMethod movement) {
+    movementMethod = movement;
+  }
+
+  public final MovementMethod getMovementMethod() {
+    return movementMethod;
+  }
+
+  public int length() {
+    return text.length();
+  }
+
+  public void addTextChangedListener(TextWatcher watcher) {
+    if(watchers == null) {
+      watchers = new ArrayList<TextWatcher>(2);
+    }
+    watchers.add(watcher);
+  }
+
+  public void removeTextChangedListener(TextWatcher watcher) {
+    if(watchers != null) {
+      watchers.remove(watcher);
+    }
+  }
+}
@@ -0,0 +1,87 @@
+package de.dimensionv.android.androdialogs.standins;
+
+import java.util.LinkedList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>The message queue of the main thread behind the {@code Handler} stand-in.</p>
+ *
+ * <p>By default, posted {@code Runnable}s are run right away on the posting thread, which is all
+ * the benchmarks need. Tests that have to run them on the test thread, like the framework does on
+ * the main thread, enable queueing and run the posted {@code Runnable}s with {@link #drain()}.
+ * Delays are ignored.</p>
+ */
+public final class MainThreadQueue {
+
+  private static final LinkedList<Runnable> queue = new LinkedList<Runnable>();
+  private static boolean queueing = false;
+
+  private MainThreadQueue() {
+  }
+
+  /**
+   * Enables or disables queueing. Disabling it discards the queued {@code Runnable}s.
+   *
+   * @param enabled Whether posted {@code Runnable}s are queued.
+   */
+  public static synchronized void setQueueing(boolean enabled) {
+    queueing = enabled;
+    if(!enabled) {
+      queue.clear();
+    }
+  }
+
+  /**
+   * Queues the given {@code Runnable}, if queueing is enabled.
+   *
+   * @param runnable The posted {@code Runnable}.
+   * @return {@code true} if it was queued, {@code false} if it has to be run right away.
+   */
+  public static synchronized boolean enqueue(Runnable runnable) {
+    if(!queueing) {
+      return false;
+    }
+    queue.add(runnable);
+    MainThreadQueue.class.notifyAll();
+    return true;
+  }
+
+  /**
+   * Waits until a {@code Runnable} is queued.
+   *
+   * @param timeout The maximum time to wait.
+   * @param unit The unit of the timeout.
+   * @return {@code true} if a {@code Runnable} is queued, {@code false} if the timeout elapsed.
+   * @throws InterruptedException in case the waiting thread was interrupted.
+   */
+  public static synchronized boolean awaitPost(long timeout, TimeUnit unit) throws InterruptedException {
+    long deadline = System.nanoTime() + unit.toNanos(timeout);
+    while(queue.isEmpty()) {
+      long remaining = deadline - System.nanoTime();
+      if(remaining <= 0L) {
+        return false;
+      }
+      TimeUnit.NANOSECONDS.timedWait(MainThreadQueue.class, remaining);
+    }
+    return true;
+  }
+
+  /**
+   * Runs the queued {@code Runnable}s on the calling thread, including those they post in turn.
+   *
+   * @return The number of {@code Runnable}s run.
+   */
+  public static int drain() {
+    int count = 0;
+    Runnable runnable;
+    while((runnable = poll()) != null) {
+      runnable.run();
+      count++;
+    }
+    return count;
+  }
+
+  private static synchronized Runnable poll() {
+    return queue.poll();
+  }
+}
@@ -0,0 +1,15 @@
+package de.dimensionv.android.androtools.ui;
+
+import android.view.View;
+
+/**
+ * Stand-in for {@code ViewTools} of the <em>androtools</em> library, which is only available as
+ * an Android archive.
+ */
+public class ViewTools {
+
+  @SuppressWarnings("unchecked")
+  public static <T extends View> T findView(View view, int id) {
+    return (T) view.findViewById(id);
+  }
+}
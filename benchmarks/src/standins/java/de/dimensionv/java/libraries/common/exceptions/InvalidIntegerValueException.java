@@ -0,0 +1,12 @@
+package de.dimensionv.java.libraries.common.exceptions;
+
+/**
+ * Stand-in for {@code InvalidIntegerValueException} of the <em>java-libraries</em>, which come
+ * with the <em>androtools</em> Android archive.
+ */
+public class InvalidIntegerValueException extends IllegalArgumentException {
+
+  public InvalidIntegerValueException(int value) {
+    super("Invalid value: " + value);
+  }
+}
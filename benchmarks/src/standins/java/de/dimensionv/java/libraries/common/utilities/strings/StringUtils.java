@@ -0,0 +1,12 @@
+package de.dimensionv.java.libraries.common.utilities.strings;
+
+/**
+ * Stand-in for {@code StringUtils} of the <em>java-libraries</em>, which come with the
+ * <em>androtools</em> Android archive.
+ */
+public class StringUtils {
+
+  public static boolean isEmpty(String s) {
+    return (s == null) || (s.length() == 0);
+  }
+}
@@ -0,0 +1,225 @@
+package de.dimensionv.android.androdialogs.benchmarks;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import de.dimensionv.android.androdialogs.BaseDialogFragment;
+import de.dimensionv.android.androdialogs.common.DialogFragmentInterface;
+import de.dimensionv.android.androdialogs.dialogs.ConfirmDeletionDialogFragment;
+import de.dimensionv.android.androdialogs.dialogs.ProgressDialogFragment;
+import de.dimensionv.android.androdialogs.handlers.CancelActionHandler;
+import de.dimensionv.android.androdialogs.progress.ProgressReporter;
+import de.dimensionv.android.androdialogs.progress.ProgressTask;
+import de.dimensionv.android.androdialogs.progress.ProgressTaskListener;
+import de.dimensionv.android.androdialogs.progress.ProgressWork;
+import de.dimensionv.android.androdialogs.standins.MainThreadQueue;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * <p>Verifies that retained dialog fragments do not keep their <code>Activity</code> alive across
+ * a configuration change, and that their handler, as well as the outcome of a running
+ * {@link ProgressTask}, reaches the re-created <code>Activity</code>.</p>
+ *
+ * <p>The configuration change is simulated by detaching the dialog fragment from one
+ * <code>Activity</code> and attaching it to a new one, as the framework does for retained
+ * fragments. Everything posted to the main thread is run on the test thread.</p>
+ *
+ * @author Volkmar Seifert
+ * @version 1.0
+ * @since API 2.1.0
+ */
+public class ActivityRetentionTest {
+
+  private static final String RESULT = "done";
+
+  private ExecutorService executor;
+  private CountDownLatch release;
+
+  @Before
+  public void setUp() {
+    MainThreadQueue.setQueueing(true);
+    executor = Executors.newSingleThreadExecutor();
+    release = new CountDownLatch(1);
+  }
+
+  @After
+  public void tearDown() {
+    executor.shutdownNow();
+    MainThreadQueue.setQueueing(false);
+  }
+
+  @Test
+  public void registeredActivityHandlerIsReleased() throws Exception {
+    ConfirmDeletionDialogFragment dialog = ConfirmDeletionDialogFragment.createDialog();
+    BenchmarkActivity activity = new BenchmarkActivity();
+    dialog.onAttach(activity);
+    assertSame(activity, dialog.getActionHandler());
+
+    WeakReference<BenchmarkActivity> oldActivity = new WeakReference<BenchmarkActivity>(activity);
+    activity = null;
+    assertHandlerFollowsActivity(dialog, oldActivity);
+  }
+
+  @Test
+  public void explicitActivityHandlerIsReleased() throws Exception {
+    ConfirmDeletionDialogFragment dialog = ConfirmDeletionDialogFragment.createDialog();
+    dialog.setRegisterHandler(false);
+    BenchmarkActivity activity = new BenchmarkActivity();
+    dialog.onAttach(activity);
+    dialog.setActionHandler(activity);
+    assertSame(activity, dialog.getActionHandler());
+
+    WeakReference<BenchmarkActivity> oldActivity = new WeakReference<BenchmarkActivity>(activity);
+    activity = null;
+    assertHandlerFollowsActivity(dialog, oldActivity);
+  }
+
+  @Test
+  public void configurationChangeReleasesActivity() throws Exception {
+    ProgressDialogFragment dialog = createDialog();
+    ListenerActivity activity = new ListenerActivity();
+    attach(dialog, activity);
+    new ProgressTask<String>(dialog, new BlockingWork(release), activity).execute(activity, executor);
+    MainThreadQueue.drain();
+
+    WeakReference<ListenerActivity> oldActivity = new WeakReference<ListenerActivity>(activity);
+    activity = null;
+    ListenerActivity newActivity = new ListenerActivity();
+    recreate(dialog, newActivity);
+    assertCollected(oldActivity);
+
+    release.countDown();
+    runPosted();
+    assertEquals(RESULT, newActivity.result);
+    assertSame(newActivity, dialog.getActionHandler());
+  }
+
+  @Test
+  public void outcomeIsDeliveredAfterReattach() throws Exception {
+    ProgressDialogFragment dialog = createDialog();
+    ListenerActivity oldActivity = new ListenerActivity();
+    attach(dialog, oldActivity);
+    new ProgressTask<String>(dialog, new BlockingWork(release), oldActivity).execute(oldActivity, executor);
+    MainThreadQueue.drain();
+
+    // the work ends while the dialog is detached
+    dialog.onDestroyView();
+    dialog.onDetach();
+    release.countDown();
+    runPosted();
+    assertNull(oldActivity.result);
+
+    ListenerActivity newActivity = new ListenerActivity();
+    dialog.onAttach(newActivity);
+    MainThreadQueue.drain();
+    assertEquals(RESULT, newActivity.result);
+    assertNull(oldActivity.result);
+    assertSame(newActivity, dialog.getActionHandler());
+  }
+
+  private static ProgressDialogFragment createDialog() {
+    return ProgressDialogFragment.createFiniteProgressDialog(true);
+  }
+
+  private static void attach(ProgressDialogFragment dialog, ListenerActivity activity) {
+    dialog.onAttach(activity);
+    dialog.onCreate(null);
+    dialog.setActionHandler(activity);
+  }
+
+  private static void recreate(BaseDialogFragment<?> dialog, BenchmarkActivity newActivity) {
+    dialog.onDestroyView();
+    dialog.onDetach();
+    dialog.onAttach(newActivity);
+  }
+
+  /**
+   * Detaches the dialog, checks that the old <code>Activity</code>, which must not be referenced
+   * by the caller anymore, is collected, and that the re-created one becomes the handler.
+   */
+  private static void assertHandlerFollowsActivity(BaseDialogFragment<?> dialog, WeakReference<BenchmarkActivity> oldActivity) throws InterruptedException {
+    dialog.onDestroyView();
+    dialog.onDetach();
+    assertNull(dialog.getActionHandler());
+    assertCollected(oldActivity);
+
+    BenchmarkActivity newActivity = new BenchmarkActivity();
+    dialog.onAttach(newActivity);
+    assertSame(newActivity, dialog.getActionHandler());
+  }
+
+  /**
+   * Waits for the work to post its outcome to the main thread, and runs it on the test thread.
+   */
+  private static void runPosted() throws InterruptedException {
+    assertTrue("Nothing was posted to the main thread.", MainThreadQueue.awaitPost(5, TimeUnit.SECONDS));
+    MainThreadQueue.drain();
+  }
+
+  private static void assertCollected(WeakReference<?> reference) throws InterruptedException {
+    for(int i = 0; i < 20; i++) {
+      System.gc();
+      if(reference.get() == null) {
+        return;
+      }
+      Thread.sleep(50L);
+    }
+    fail("The Activity is still referenced after the configuration change.");
+  }
+
+  /**
+   * Work that blocks until it is released, without referencing any <code>Activity</code>.
+   */
+  private static class BlockingWork implements ProgressWork<String> {
+
+    private final CountDownLatch release;
+
+    BlockingWork(CountDownLatch release) {
+      this.release = release;
+    }
+
+    @Override
+    public String execute(ProgressReporter reporter) throws Exception {
+      release.await();
+      return RESULT;
+    }
+  }
+
+  /**
+   * An <code>Activity</code> listening for the outcome of the task, which is also the handler of
+   * the dialog. The outcome is delivered on the test thread.
+   */
+  public static class ListenerActivity extends BenchmarkActivity implements ProgressTaskListener<String>, CancelActionHandler {
+
+    private String result = null;
+
+    @Override
+    public void onTaskCompleted(String result) {
+      this.result = result;
+    }
+
+    @Override
+    public void onTaskFailed(Throwable error) {
+    }
+
+    @Override
+    public void onTaskCancelled() {
+    }
+
+    @Override
+    public void onCancel(DialogFragmentInterface dialog) {
+    }
+  }
+}
@@ -0,0 +1,184 @@
+package de.dimensionv.android.androdialogs.benchmarks;
+
+import android.widget.Button;
+import android.widget.TextView;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import de.dimensionv.android.androdialogs.standins.MainThreadQueue;
+import de.dimensionv.android.androdialogs.validation.AsyncInputValidation;
+import de.dimensionv.android.androdialogs.validation.InputValidator;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * <p>Verifies that {@link AsyncInputValidation} discards the result of a check once the input has
+ * changed, whether the change happens before the check runs, while the validator is running, or
+ * while the result is on its way to the main thread.</p>
+ *
+ * <p>The test thread acts as the main thread. Validators run on a single thread, so a check of
+ * newer input only starts once the previous check has completed.</p>
+ *
+ * @author Volkmar Seifert
+ * @version 1.0
+ * @since API 2.1.0
+ */
+public class AsyncInputValidationTest {
+
+  private ExecutorService executor;
+  private GatedValidator validator;
+  private TextView input;
+  private Button button;
+  private AsyncInputValidation validation;
+
+  @Before
+  public void setUp() {
+    MainThreadQueue.setQueueing(true);
+    executor = Executors.newSingleThreadExecutor();
+    validator = new GatedValidator();
+    BenchmarkActivity activity = new BenchmarkActivity();
+    input = new TextView(activity);
+    button = new Button(activity);
+  }
+
+  @After
+  public void tearDown() {
+    if(validation != null) {
+      validation.detach();
+    }
+    validator.releaseAll();
+    executor.shutdownNow();
+    MainThreadQueue.setQueueing(false);
+  }
+
+  @Test
+  public void resultOfChangedInputIsDiscardedAfterValidation() throws Exception {
+    attach(0L);
+    Gate first = validator.gate("a");
+    Gate second = validator.gate("ab");
+
+    input.setText("a");
+    first.awaitStarted();
+    input.setText("ab");
+    first.release();
+    // the check of "a" has completed once the one of "ab" starts
+    second.awaitStarted();
+
+    assertFalse("The stale result was posted.", MainThreadQueue.awaitPost(100, TimeUnit.MILLISECONDS));
+    assertFalse(button.isEnabled());
+
+    second.release();
+    runPosted();
+    assertTrue(button.isEnabled());
+    assertTrue(validation.isValid());
+  }
+
+  @Test
+  public void resultOfChangedInputIsDiscardedOnMainThread() throws Exception {
+    attach(0L);
+    Gate second = validator.gate("ab");
+
+    input.setText("a");
+    // the result of "a" is waiting for the main thread, when the input changes
+    assertTrue(MainThreadQueue.awaitPost(5, TimeUnit.SECONDS));
+    input.setText("ab");
+    MainThreadQueue.drain();
+    assertFalse(button.isEnabled());
+    assertFalse(validation.isValid());
+
+    second.release();
+    runPosted();
+    assertTrue(button.isEnabled());
+  }
+
+  @Test
+  public void changedInputIsNotValidated() throws Exception {
+    attach(200L);
+
+    input.setText("a");
+    input.setText("ab");
+    runPosted();
+    assertTrue(button.isEnabled());
+    assertFalse("The outdated input was validated.", validator.checked.contains("a"));
+  }
+
+  private void attach(long debounceDelay) throws InterruptedException {
+    validation = new AsyncInputValidation(validator, debounceDelay, executor);
+    validation.attach(input, button);
+    // the empty input is checked right away
+    runPosted();
+    assertFalse(button.isEnabled());
+  }
+
+  /**
+   * Waits for a result to be posted to the main thread, and applies it on the test thread.
+   */
+  private static void runPosted() throws InterruptedException {
+    assertTrue("No result was posted.", MainThreadQueue.awaitPost(5, TimeUnit.SECONDS));
+    MainThreadQueue.drain();
+  }
+
+  /**
+   * Holds the check of a single input until it is released.
+   */
+  private static class Gate {
+
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch released = new CountDownLatch(1);
+
+    void awaitStarted() throws InterruptedException {
+      assertTrue("The check did not start.", started.await(5, TimeUnit.SECONDS));
+    }
+
+    void release() {
+      released.countDown();
+    }
+  }
+
+  /**
+   * Accepts any non-empty input, but holds the checks of gated inputs until they are released.
+   */
+  private static class GatedValidator implements InputValidator {
+
+    private final List<String> checked = Collections.synchronizedList(new ArrayList<String>());
+    private final Map<String, Gate> gates = Collections.synchronizedMap(new HashMap<String, Gate>());
+
+    Gate gate(String input) {
+      Gate gate = new Gate();
+      gates.put(input, gate);
+      return gate;
+    }
+
+    void releaseAll() {
+      synchronized(gates) {
+        for(Gate gate : gates.values()) {
+          gate.release();
+        }
+      }
+    }
+
+    @Override
+    public boolean isValid(String input) throws Exception {
+      checked.add(input);
+      Gate gate = gates.get(input);
+      if(gate != null) {
+        gate.started.countDown();
+        gate.released.await();
+      }
+      return !input.isEmpty();
+    }
+  }
+}
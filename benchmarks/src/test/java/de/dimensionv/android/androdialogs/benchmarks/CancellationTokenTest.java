@@ -0,0 +1,55 @@
+package de.dimensionv.android.androdialogs.benchmarks;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.Pipe;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import de.dimensionv.android.androdialogs.common.DialogExecutors;
+import de.dimensionv.android.androdialogs.progress.CancellationToken;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * <p>Verifies that a {@link CancellationToken} closes channels on cancellation even while the
+ * background executor of {@link DialogExecutors} is busy with the very work to be stopped.</p>
+ *
+ * @author Volkmar Seifert
+ * @version 1.0
+ * @since API 2.1.0
+ */
+public class CancellationTokenTest {
+
+  @Test
+  public void closeIsNotQueuedBehindTheWork() throws Exception {
+    final CancellationToken token = new CancellationToken();
+    final Pipe pipe = Pipe.open();
+    final CountDownLatch reading = new CountDownLatch(1);
+
+    // the work occupies the default background thread, blocked on the channel
+    DialogExecutors.getBackgroundExecutor().execute(new Runnable() {
+      @Override
+      public void run() {
+        CancellationToken.Registration registration = token.closeOnCancel(pipe.source());
+        try {
+          reading.countDown();
+          pipe.source().read(ByteBuffer.allocate(1));
+        } catch(ClosedChannelException ex) {
+          // closed while blocked, or right before reading
+          token.markIdle();
+        } catch(Exception ex) {
+          // not stopped by the close, awaitIdle() fails
+        } finally {
+          registration.unregister();
+        }
+      }
+    });
+    assertTrue(reading.await(5, TimeUnit.SECONDS));
+
+    token.cancel();
+    assertTrue("The blocked work was not stopped.", token.awaitIdle(5, TimeUnit.SECONDS));
+  }
+}
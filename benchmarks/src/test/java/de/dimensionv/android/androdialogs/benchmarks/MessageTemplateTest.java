@@ -0,0 +1,97 @@
+package de.dimensionv.android.androdialogs.benchmarks;
+
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+import java.util.MissingFormatArgumentException;
+
+import de.dimensionv.android.androdialogs.common.MessageTemplate;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * <p>Verifies that a {@link MessageTemplate} formats exactly like
+ * <code>String.format(locale, pattern, args)</code>, whether it renders the pattern directly or
+ * leaves it to the <code>Formatter</code>.</p>
+ *
+ * @author Volkmar Seifert
+ * @version 1.0
+ * @since API 2.1.0
+ */
+public class MessageTemplateTest {
+
+  private static final Locale THAI_DIGITS = Locale.forLanguageTag("th-TH-u-nu-thai");
+
+  private static final Object CASES[][] = {
+      // pattern, arguments
+      {"plain text"},
+      {"100%% done", 42},
+      {"first%nsecond"},
+      {"%s and %d", "apples", 3},
+      {"%1$s", "explicit"},
+      {"%2$s before %1$s", "one", "two"},
+      {"%2$s %s %s %1$d", 1, "b"},
+      {"%1$s %1$s %s", "again"},
+      {"%s / %d", null, null},
+      {"%d %d %d %d", -1, Long.MIN_VALUE, (short) -32768, (byte) -128},
+      {"%d", Integer.MAX_VALUE},
+      {"%d of %d", new BigInteger("-123456789012345678901234567890"), 7},
+      {"%5d|%-4s|%.2f", 42, "ab", 3.14159},
+      {"%s", new StringBuilder("builder")},
+      {"%%%n%%"},
+  };
+
+  @Test
+  public void formatsLikeStringFormat() {
+    for(Locale locale : new Locale[] {Locale.US, Locale.GERMANY, THAI_DIGITS}) {
+      for(Object row[] : CASES) {
+        String pattern = (String) row[0];
+        Object args[] = new Object[row.length - 1];
+        System.arraycopy(row, 1, args, 0, args.length);
+
+        MessageTemplate template = MessageTemplate.compile(pattern, locale);
+        String expected = String.format(locale, pattern, args);
+        String message = "\"" + pattern + "\" in " + locale;
+        assertEquals(message, expected, template.format(args));
+        assertEquals(message, expected, template.appendTo(new StringBuilder(), args).toString());
+      }
+    }
+  }
+
+  @Test
+  public void localeUsesNonAsciiDigits() {
+    // guards the test above against a JRE without the Thai digits
+    assertNotEquals('0', DecimalFormatSymbols.getInstance(THAI_DIGITS).getZeroDigit());
+    assertTrue(MessageTemplate.compile("%d", THAI_DIGITS).isCompiled());
+  }
+
+  @Test
+  public void missingArgumentFailsLikeStringFormat() {
+    try {
+      MessageTemplate.compile("%s and %s", Locale.US).format("one");
+      fail("The missing argument was not detected.");
+    } catch(MissingFormatArgumentException ex) {
+      // expected, like String.format()
+    }
+  }
+
+  @Test
+  public void nestedFormatKeepsOuterMessage() {
+    final MessageTemplate inner = MessageTemplate.compile("inner %d", Locale.US);
+    Object nested = new Object() {
+      @Override
+      public String toString() {
+        return inner.format(7);
+      }
+    };
+    MessageTemplate outer = MessageTemplate.compile("before [%s] after %s", Locale.US);
+    assertEquals("before [inner 7] after end", outer.format(nested, "end"));
+    // the builder of the thread is still intact
+    assertEquals("inner 8", inner.format(8));
+  }
+}
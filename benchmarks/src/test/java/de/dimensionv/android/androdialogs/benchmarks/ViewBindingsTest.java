@@ -0,0 +1,79 @@
+package de.dimensionv.android.androdialogs.benchmarks;
+
+import android.view.View;
+
+import org.junit.Test;
+
+import java.lang.ref.WeakReference;
+
+import de.dimensionv.android.androdialogs.interceptors.ViewBinder;
+import de.dimensionv.android.androdialogs.interceptors.ViewBindings;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * <p>Verifies that {@link ViewBindings} binds a reused view only once per class of binder, and
+ * does not keep the binders of earlier shows alive.</p>
+ *
+ * @author Volkmar Seifert
+ * @version 1.0
+ * @since API 2.1.0
+ */
+public class ViewBindingsTest {
+
+  @Test
+  public void newBinderOfSameClassReusesBinding() {
+    CountingBinder.bound = 0;
+    View view = new View(new BenchmarkActivity());
+    Object first = ViewBindings.obtain(view, new CountingBinder());
+    for(int i = 0; i < 100; i++) {
+      assertSame(first, ViewBindings.obtain(view, new CountingBinder()));
+    }
+    assertEquals(1, CountingBinder.bound);
+  }
+
+  @Test
+  public void binderOfOtherClassGetsOwnBinding() {
+    View view = new View(new BenchmarkActivity());
+    Object counting = ViewBindings.obtain(view, new CountingBinder());
+    Object other = ViewBindings.obtain(view, new ViewBinder<Object>() {
+      @Override
+      public Object bind(View view) {
+        return new Object();
+      }
+    });
+    assertNotSame(counting, other);
+    assertSame(counting, ViewBindings.obtain(view, new CountingBinder()));
+  }
+
+  @Test
+  public void viewDoesNotRetainBinder() throws InterruptedException {
+    View view = new View(new BenchmarkActivity());
+    CountingBinder binder = new CountingBinder();
+    ViewBindings.obtain(view, binder);
+    WeakReference<CountingBinder> reference = new WeakReference<CountingBinder>(binder);
+    binder = null;
+    for(int i = 0; (i < 20) && (reference.get() != null); i++) {
+      System.gc();
+      Thread.sleep(50L);
+    }
+    assertNull("The view still references the binder.", reference.get());
+  }
+
+  /**
+   * A binder counting how often it bound a view.
+   */
+  private static class CountingBinder implements ViewBinder<Object> {
+
+    static int bound = 0;
+
+    @Override
+    public Object bind(View view) {
+      bound++;
+      return new Object();
+    }
+  }
+}
@@ -0,0 +1,28 @@
+package de.dimensionv.android.androdialogs.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * <p>Declares the initial value of an argument in a {@link DialogArguments} spec. Without it,
+ * arguments start out with the default value of their type (<code>0</code>, <code>false</code> or
+ * <code>null</code>).</p>
+ *
+ * <p>The value is a Java expression, which is copied to the generated class as is, e.g.
+ * <code>"Integer.MIN_VALUE"</code>. It is resolved in the package of the spec.</p>
+ *
+ * @author Volkmar Seifert
+ * @version 1.0
+ * @since API 2.1.0
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.METHOD)
+public @interface DefaultValue {
+
+  /**
+   * The Java expression for the initial value.
+   */
+  String value();
+}
@@ -0,0 +1,39 @@
+package de.dimensionv.android.androdialogs.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * <p>Declares the arguments of a dialog. The annotated interface is the spec: each of its getters
+ * declares one argument, named after the getter.</p>
+ *
+ * <p>From the spec, a typed argument class is generated that implements the spec and
+ * <code>Parcelable</code>. It holds the arguments in plain fields, has a setter for each of them
+ * and is stored in the dialog's argument <code>Bundle</code> as a single entry. Getters have to be
+ * named <code>getXxx()</code>, or <code>isXxx()</code> for <code>boolean</code> arguments, and
+ * may return a primitive type or <code>String</code>.</p>
+ *
+ * <pre>
+ * &#64;DialogArguments
+ * interface ProgressArgumentsSpec {
+ *   int getDialogResourceID();
+ *   String getSimpleMessage();
+ * }
+ * </pre>
+ *
+ * @author Volkmar Seifert
+ * @version 1.0
+ * @since API 2.1.0
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface DialogArguments {
+
+  /**
+   * The simple name of the generated class. Defaults to the name of the spec without its
+   * "Spec"-suffix.
+   */
+  String value() default "";
+}
@@ -0,0 +1,346 @@
+package de.dimensionv.android.androdialogs.processor;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+
+import de.dimensionv.android.androdialogs.annotations.DefaultValue;
+import de.dimensionv.android.androdialogs.annotations.DialogArguments;
+
+/**
+ * <p>Generates the typed argument classes for the interfaces annotated with
+ * {@link DialogArguments}.</p>
+ *
+ * <p>Specs that cannot be turned into an argument class, e.g. because of a getter with an
+ * unsupported type, are reported as compile errors.</p>
+ *
+ * @author Volkmar Seifert
+ * @version 1.0
+ * @since API 2.1.0
+ */
+@SupportedAnnotationTypes({
+    "de.dimensionv.android.androdialogs.annotations.DialogArguments",
+    "de.dimensionv.android.androdialogs.annotations.DefaultValue"
+})
+public class DialogArgumentsProcessor extends AbstractProcessor {
+
+  private static final String SPEC_SUFFIX = "Spec";
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    for(Element element : roundEnv.getElementsAnnotatedWith(DialogArguments.class)) {
+      if((element.getKind() != ElementKind.INTERFACE) || (((TypeElement) element).getNestingKind() != NestingKind.TOP_LEVEL)) {
+        error(element, "@DialogArguments can only be applied to top-level interfaces.");
+        continue;
+      }
+      TypeElement spec = (TypeElement) element;
+      String className = getClassName(spec);
+      List<Argument> arguments = getArguments(spec);
+      if((className == null) || (arguments == null)) {
+        continue;
+      }
+      try {
+        write(spec, className, arguments);
+      } catch(IOException ex) {
+        error(spec, "Could not write the argument class: " + ex.getMessage());
+      }
+    }
+    return true;
+  }
+
+  private String getClassName(TypeElement spec) {
+    String className = spec.getAnnotation(DialogArguments.class).value();
+    if(className.length() > 0) {
+      return className;
+    }
+    String specName = spec.getSimpleName().toString();
+    if(!specName.endsWith(SPEC_SUFFIX) || (specName.length() == SPEC_SUFFIX.length())) {
+      error(spec, "The spec must either be named <Name>" + SPEC_SUFFIX + ", or declare the name of the argument class.");
+      return null;
+    }
+    return specName.substring(0, specName.length() - SPEC_SUFFIX.length());
+  }
+
+  /**
+   * Collects the arguments declared by the getters of the spec, or returns null if the spec is
+   * invalid.
+   */
+  private List<Argument> getArguments(TypeElement spec) {
+    List<Argument> arguments = new ArrayList<Argument>();
+    boolean valid = true;
+    for(ExecutableElement getter : ElementFilter.methodsIn(spec.getEnclosedElements())) {
+      Argument argument = getArgument(getter);
+      if(argument == null) {
+        valid = false;
+      } else {
+        arguments.add(argument);
+      }
+    }
+    return valid ? arguments : null;
+  }
+
+  private Argument getArgument(ExecutableElement getter) {
+    String getterName = getter.getSimpleName().toString();
+    TypeMirror type = getter.getReturnType();
+    Type parcelType = Type.of(type);
+
+    if(!getter.getParameters().isEmpty()) {
+      error(getter, "Getters of a @DialogArguments spec must not take parameters.");
+      return null;
+    }
+    if(parcelType == null) {
+      error(getter, "Unsupported argument type " + type + ", only primitive types and String are supported.");
+      return null;
+    }
+
+    String prefix = (parcelType == Type.BOOLEAN) ? "is" : "get";
+    if(!getterName.startsWith(prefix) || (getterName.length() == prefix.length())
+       || !Character.isUpperCase(getterName.charAt(prefix.length()))) {
+      error(getter, "The getter for a " + type + " argument must be named " + prefix + "<Name>().");
+      return null;
+    }
+
+    String propertyName = getterName.substring(prefix.length());
+    DefaultValue defaultValue = getter.getAnnotation(DefaultValue.class);
+    String typeName = (parcelType == Type.STRING) ? "String" : type.toString();
+    return new Argument(getterName, propertyName, typeName, parcelType,
+                        (defaultValue != null) ? defaultValue.value() : null);
+  }
+
+  private void write(TypeElement spec, String className, List<Argument> arguments) throws IOException {
+    String packageName = processingEnv.getElementUtils().getPackageOf(spec).getQualifiedName().toString();
+    String qualifiedName = packageName.isEmpty() ? className : packageName + "." + className;
+    String specName = spec.getSimpleName().toString();
+
+    PrintWriter out = new PrintWriter(processingEnv.getFiler().createSourceFile(qualifiedName, spec).openWriter());
+    try {
+      out.println("// Generated by " + getClass().getSimpleName() + " from " + specName + ". Do not modify.");
+      if(!packageName.isEmpty()) {
+        out.println("package " + packageName + ";");
+        out.println();
+      }
+      out.println("import android.os.Bundle;");
+      out.println("import android.os.Parcel;");
+      out.println("import android.os.Parcelable;");
+      out.println();
+      out.println("/**");
+      out.println(" * <p>The typed arguments declared by {@link " + specName + "}.</p>");
+      out.println(" *");
+      out.println(" * <p>The arguments are stored in the dialog's argument <code>Bundle</code> as a single entry,");
+      out.println(" * so reading them is a plain field access.</p>");
+      out.println(" */");
+      out.println("public final class " + className + " implements " + specName + ", Parcelable {");
+      out.println();
+      out.println("  /**");
+      out.println("   * The key under which the arguments are stored in a <code>Bundle</code>.");
+      out.println("   */");
+      out.println("  public static final String KEY = \"" + qualifiedName + "\";");
+      out.println();
+      out.println("  public static final Parcelable.Creator<" + className + "> CREATOR = new Parcelable.Creator<" + className + ">() {");
+      out.println("    @Override");
+      out.println("    public " + className + " createFromParcel(Parcel in) {");
+      out.println("      return new " + className + "(in);");
+      out.println("    }");
+      out.println();
+      out.println("    @Override");
+      out.println("    public " + className + "[] newArray(int size) {");
+      out.println("      return new " + className + "[size];");
+      out.println("    }");
+      out.println("  };");
+      out.println();
+      for(Argument argument : arguments) {
+        out.println("  private " + argument.typeName + " " + argument.fieldName
+                    + ((argument.defaultValue != null) ? " = " + argument.defaultValue : "") + ";");
+      }
+      out.println();
+      out.println("  public " + className + "() {");
+      out.println("  }");
+      out.println();
+      out.println("  private " + className + "(Parcel in) {");
+      for(Argument argument : arguments) {
+        out.println("    " + argument.fieldName + " = " + argument.parcelType.read("in") + ";");
+      }
+      out.println("  }");
+      out.println();
+      out.println("  /**");
+      out.println("   * Returns the arguments stored in the given <code>Bundle</code>. If there are none yet, new");
+      out.println("   * arguments are created and stored in it.");
+      out.println("   *");
+      out.println("   * @param bundle The argument <code>Bundle</code> of the dialog.");
+      out.println("   * @return The arguments stored in the <code>Bundle</code>.");
+      out.println("   */");
+      out.println("  public static " + className + " from(Bundle bundle) {");
+      out.println("    " + className + " arguments = bundle.getParcelable(KEY);");
+      out.println("    if(arguments == null) {");
+      out.println("      arguments = new " + className + "();");
+      out.println("      bundle.putParcelable(KEY, arguments);");
+      out.println("    }");
+      out.println("    return arguments;");
+      out.println("  }");
+      out.println();
+      out.println("  /**");
+      out.println("   * Returns a new <code>Bundle</code> holding these arguments, to be set as the dialog's arguments.");
+      out.println("   *");
+      out.println("   * @return The new <code>Bundle</code>.");
+      out.println("   */");
+      out.println("  public Bundle toBundle() {");
+      out.println("    Bundle bundle = new Bundle();");
+      out.println("    bundle.putParcelable(KEY, this);");
+      out.println("    return bundle;");
+      out.println("  }");
+      for(Argument argument : arguments) {
+        out.println();
+        out.println("  @Override");
+        out.println("  public " + argument.typeName + " " + argument.getterName + "() {");
+        out.println("    return " + argument.fieldName + ";");
+        out.println("  }");
+        out.println();
+        out.println("  /**");
+        out.println("   * Sets the value returned by {@link #" + argument.getterName + "()}.");
+        out.println("   *");
+        out.println("   * @param " + argument.fieldName + " The new value.");
+        out.println("   * @return These arguments.");
+        out.println("   */");
+        out.println("  public " + className + " set" + argument.propertyName + "(" + argument.typeName + " " + argument.fieldName + ") {");
+        out.println("    this." + argument.fieldName + " = " + argument.fieldName + ";");
+        out.println("    return this;");
+        out.println("  }");
+      }
+      out.println();
+      out.println("  @Override");
+      out.println("  public int describeContents() {");
+      out.println("    return 0;");
+      out.println("  }");
+      out.println();
+      out.println("  @Override");
+      out.println("  public void writeToParcel(Parcel out, int flags) {");
+      for(Argument argument : arguments) {
+        out.println("    " + argument.parcelType.write("out", argument.fieldName) + ";");
+      }
+      out.println("  }");
+      out.println("}");
+    } finally {
+      out.close();
+    }
+  }
+
+  private void error(Element element, String message) {
+    processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+  }
+
+  /**
+   * A single argument, as declared by a getter of the spec.
+   */
+  private static class Argument {
+    final String getterName;
+    final String propertyName;
+    final String fieldName;
+    final String typeName;
+    final Type parcelType;
+    final String defaultValue;
+
+    Argument(String getterName, String propertyName, String typeName, Type parcelType, String defaultValue) {
+      this.getterName = getterName;
+      this.propertyName = propertyName;
+      this.fieldName = Character.toLowerCase(propertyName.charAt(0)) + propertyName.substring(1);
+      this.typeName = typeName;
+      this.parcelType = parcelType;
+      this.defaultValue = defaultValue;
+    }
+  }
+
+  /**
+   * The supported argument types and how they are written to and read from a <code>Parcel</code>.
+   */
+  private enum Type {
+    BOOLEAN("Byte") {
+      @Override
+      String read(String parcel) {
+        return parcel + ".readByte() != 0";
+      }
+
+      @Override
+      String write(String parcel, String field) {
+        return parcel + ".writeByte((byte) (" + field + " ? 1 : 0))";
+      }
+    },
+    BYTE("Byte"),
+    INT("Int"),
+    LONG("Long"),
+    FLOAT("Float"),
+    DOUBLE("Double"),
+    STRING("String"),
+    // chars and shorts have no Parcel methods of their own
+    CHAR("Int") {
+      @Override
+      String read(String parcel) {
+        return "(char) " + super.read(parcel);
+      }
+    },
+    SHORT("Int") {
+      @Override
+      String read(String parcel) {
+        return "(short) " + super.read(parcel);
+      }
+    };
+
+    private final String parcelName;
+
+    Type(String parcelName) {
+      this.parcelName = parcelName;
+    }
+
+    String read(String parcel) {
+      return parcel + ".read" + parcelName + "()";
+    }
+
+    String write(String parcel, String field) {
+      return parcel + ".write" + parcelName + "(" + field + ")";
+    }
+
+    static Type of(TypeMirror type) {
+      switch(type.getKind()) {
+        case BOOLEAN:
+          return BOOLEAN;
+        case BYTE:
+          return BYTE;
+        case CHAR:
+          return CHAR;
+        case SHORT:
+          return SHORT;
+        case INT:
+          return INT;
+        case LONG:
+          return LONG;
+        case FLOAT:
+          return FLOAT;
+        case DOUBLE:
+          return DOUBLE;
+        case DECLARED:
+          return "java.lang.String".equals(type.toString()) ? STRING : null;
+        default:
+          return null;
+      }
+    }
+  }
+}